@@ -0,0 +1,130 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.os.Build;
+import android.os.Trace;
+
+import com.studio.modifieddatepicker.core.PickerMetrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Metrics counting the phases of the picker and keeping a latency histogram per phase, without
+ * locks. The histogram buckets are powers of two of microseconds. Optionally every phase is also
+ * emitted as an {@link Trace} section so it shows up in system traces.
+ */
+public class CountingPickerMetrics implements PickerMetrics {
+
+    public static final int BUCKET_COUNT = 24;
+
+    private static final String[] PHASE_NAMES = {
+            "SimpleDatePicker#create",
+            "SimpleDatePicker#inflate",
+            "SimpleDatePicker#localeSetup",
+            "SimpleDatePicker#updateSpinners",
+            "SimpleDatePicker#dispatch"
+    };
+
+    private final boolean mTraceSections;
+    private final AtomicLongArray mCounts = new AtomicLongArray(PHASE_COUNT);
+    private final AtomicLongArray mTotalNanos = new AtomicLongArray(PHASE_COUNT);
+    private final AtomicLongArray mBuckets = new AtomicLongArray(PHASE_COUNT * BUCKET_COUNT);
+
+    public CountingPickerMetrics() {
+        this(false);
+    }
+
+    /**
+     * @param traceSections Whether to emit a trace section for every phase.
+     */
+    public CountingPickerMetrics(boolean traceSections) {
+        mTraceSections = traceSections
+                && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+    }
+
+    @Override
+    public long begin(int phase) {
+        if (mTraceSections) {
+            Trace.beginSection(PHASE_NAMES[phase]);
+        }
+        return System.nanoTime();
+    }
+
+    @Override
+    public void end(int phase, long token) {
+        long nanos = System.nanoTime() - token;
+        if (mTraceSections) {
+            Trace.endSection();
+        }
+        mCounts.incrementAndGet(phase);
+        mTotalNanos.addAndGet(phase, nanos);
+        mBuckets.incrementAndGet(phase * BUCKET_COUNT + getBucket(nanos));
+    }
+
+    /**
+     * @param phase One of the PHASE constants.
+     * @return the number of times the phase ended
+     */
+    public long getCount(int phase) {
+        return mCounts.get(phase);
+    }
+
+    /**
+     * @param phase One of the PHASE constants.
+     * @return the total time spent in the phase in nanoseconds
+     */
+    public long getTotalNanos(int phase) {
+        return mTotalNanos.get(phase);
+    }
+
+    /**
+     * @param phase  One of the PHASE constants.
+     * @param bucket The bucket, holding latencies below 2^bucket microseconds.
+     * @return the number of times the phase ended within the bucket
+     */
+    public long getBucketCount(int phase, int bucket) {
+        return mBuckets.get(phase * BUCKET_COUNT + bucket);
+    }
+
+    /**
+     * Estimates a percentile of the latency of the phase from the histogram.
+     *
+     * @param phase      One of the PHASE constants.
+     * @param percentile The percentile, between 0 and 100.
+     * @return the upper bound of the bucket holding the percentile in nanoseconds, or 0 if the
+     * phase never ended
+     */
+    public long getPercentileNanos(int phase, double percentile) {
+        long count = getCount(phase);
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += getBucketCount(phase, bucket);
+            if (seen >= rank) {
+                return (1L << bucket) * 1000;
+            }
+        }
+        return (1L << (BUCKET_COUNT - 1)) * 1000;
+    }
+
+    /**
+     * Clears all counters and histograms.
+     */
+    public void reset() {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            mCounts.set(i, 0);
+            mTotalNanos.set(i, 0);
+        }
+        for (int i = 0; i < PHASE_COUNT * BUCKET_COUNT; i++) {
+            mBuckets.set(i, 0);
+        }
+    }
+
+    private static int getBucket(long nanos) {
+        long micros = nanos / 1000;
+        int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+}
@@ -0,0 +1,269 @@
+package com.studio.modifieddatepicker.widget;
+
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the data of the months the user is likely to select next, driven by the date changes of
+ * a {@link SimpleDatePickerDelegate}. The next months are predicted from the direction and speed
+ * of the changes and loaded on a bounded executor into a bounded least recently used cache.
+ * Loads of months which are no longer likely are cancelled. The months are keyed by their index in
+ * the {@link MonthTable} of the picker, see {@link SimpleDatePickerDelegate#getEpochMonth()}, so
+ * the predictions step over the months of its calendar system.
+ *
+ * @param <T> The type of the data of a month.
+ */
+public class MonthDataPrefetcher<T> implements SimpleDatePickerDelegate.OnDateChangedListener {
+
+    private static final int MAX_LOOKAHEAD = 6;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    // how far ahead to look in seconds of scrolling at the current speed
+    private static final float LOOKAHEAD_SECONDS = 0.5f;
+
+    private final MonthTable mMonthTable;
+    private final Loader<T> mLoader;
+    private final SimpleDatePickerDelegate.OnDateChangedListener mOnDateChangedListener;
+    private final ThreadPoolExecutor mExecutor;
+    private final LinkedHashMap<Integer, T> mCache;
+    private final Map<Integer, LoadTask> mInFlight = new HashMap<>();
+
+    private int mLastMonth = Integer.MIN_VALUE;
+    private long mLastChangeNanos;
+    private int mDirection = 1;
+
+    /**
+     * @param monthTable            The month table of the picker, see {@link
+     *                              SimpleDatePickerConfig#getMonthTable()}.
+     * @param loader                The loader of the data of a month.
+     * @param cacheSize             The maximal number of months kept in the cache.
+     * @param threads               The number of threads loading at once.
+     * @param onDateChangedListener The listener to forward the date changes to, or null.
+     */
+    public MonthDataPrefetcher(MonthTable monthTable, Loader<T> loader, final int cacheSize,
+                               int threads, SimpleDatePickerDelegate.OnDateChangedListener
+                                       onDateChangedListener) {
+        if (cacheSize <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("The cache size and threads should be positive.");
+        }
+        mMonthTable = monthTable;
+        mLoader = loader;
+        mOnDateChangedListener = onDateChangedListener;
+        mCache = new LinkedHashMap<Integer, T>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        mExecutor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(MAX_LOOKAHEAD * 2),
+                new RejectedExecutionHandler() {
+                    @Override
+                    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+                        // dropping the load is fine, it is requested again when still likely
+                        ((FutureTask<?>) r).cancel(false);
+                    }
+                });
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void onDateChanged(int year, int monthOfYear) {
+        onMonthChanged(mMonthTable.toIndex(year, monthOfYear), System.nanoTime());
+        if (mOnDateChangedListener != null) {
+            mOnDateChangedListener.onDateChanged(year, monthOfYear);
+        }
+    }
+
+    /**
+     * Gets the cached data of the month.
+     *
+     * @param month The month as a month index of the prefetcher's {@link MonthTable}.
+     * @return the data, or null if it is not loaded yet
+     */
+    public T get(int month) {
+        synchronized (mCache) {
+            return mCache.get(month);
+        }
+    }
+
+    /**
+     * Gets the data of the month, waiting for its load in flight or loading it on the calling
+     * thread if none is. Must not be called on the UI thread, it blocks until the month is
+     * loaded.
+     *
+     * @param month The month as a month index of the prefetcher's {@link MonthTable}.
+     * @return the data
+     * @throws ExecutionException   if the loader failed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T await(int month) throws ExecutionException, InterruptedException {
+        while (true) {
+            T data = get(month);
+            if (data != null) {
+                return data;
+            }
+            LoadTask task;
+            boolean load = false;
+            synchronized (mInFlight) {
+                task = mInFlight.get(month);
+                if (task == null || task.isCancelled()) {
+                    // registered so that a prefetch of the month does not load it again
+                    task = new LoadTask(month);
+                    mInFlight.put(month, task);
+                    load = true;
+                }
+                // a date change no longer cancels the load, the caller needs the month
+                task.mAwaited = true;
+            }
+            if (load) {
+                task.run();
+            }
+            try {
+                return task.get();
+            } catch (CancellationException e) {
+                // cancelled by a shutdown, load it again on the calling thread
+            }
+        }
+    }
+
+    /**
+     * Cancels all loads and stops the threads. The cache stays readable.
+     */
+    public void shutdown() {
+        synchronized (mInFlight) {
+            List<LoadTask> tasks = new ArrayList<>(mInFlight.values());
+            mInFlight.clear();
+            for (LoadTask task : tasks) {
+                task.cancel(true);
+            }
+        }
+        mExecutor.shutdownNow();
+    }
+
+    private void onMonthChanged(int month, long nowNanos) {
+        int lookahead = 1;
+        if (mLastMonth != Integer.MIN_VALUE && month != mLastMonth) {
+            int delta = mMonthTable.monthsBetween(mLastMonth, month);
+            mDirection = delta > 0 ? 1 : -1;
+            long elapsedNanos = Math.max(1, nowNanos - mLastChangeNanos);
+            float monthsPerSecond = Math.abs(delta) * 1e9f / elapsedNanos;
+            lookahead = Math.min(MAX_LOOKAHEAD, 1 + (int) (monthsPerSecond * LOOKAHEAD_SECONDS));
+        }
+        mLastMonth = month;
+        mLastChangeNanos = nowNanos;
+
+        // the predicted months are the selected one, the lookahead in the direction of the
+        // changes and one month behind in case the user turns back
+        int first = addMonths(month, mDirection > 0 ? -1 : -lookahead);
+        int last = addMonths(month, mDirection > 0 ? lookahead : 1);
+        synchronized (mInFlight) {
+            Iterator<Map.Entry<Integer, LoadTask>> iterator = mInFlight.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, LoadTask> entry = iterator.next();
+                if (!entry.getValue().mAwaited
+                        && (entry.getKey() < first || entry.getKey() > last)) {
+                    iterator.remove();
+                    entry.getValue().cancel(true);
+                    // free its slot in the bounded queue for the loads still likely
+                    mExecutor.remove(entry.getValue());
+                }
+            }
+        }
+        // load the nearest months first
+        for (int distance = 0; distance <= lookahead; distance++) {
+            prefetch(addMonths(month, mDirection * distance));
+        }
+        prefetch(addMonths(month, -mDirection));
+    }
+
+    // steps over the indices past the end of the shorter years of the month table
+    private int addMonths(int month, int months) {
+        int direction = months > 0 ? 1 : -1;
+        for (int i = 0; i != months; i += direction) {
+            month = mMonthTable.normalize(month + direction, direction);
+        }
+        return month;
+    }
+
+    private void prefetch(int month) {
+        if (get(month) != null || mExecutor.isShutdown()) {
+            return;
+        }
+        synchronized (mInFlight) {
+            if (mInFlight.containsKey(month)) {
+                return;
+            }
+            LoadTask task = new LoadTask(month);
+            mInFlight.put(month, task);
+            mExecutor.execute(task);
+        }
+    }
+
+    /**
+     * Loads the data of a month, called on a background thread.
+     *
+     * @param <T> The type of the data of a month.
+     */
+    public interface Loader<T> {
+
+        /**
+         * @param month The month as a month index of the prefetcher's {@link MonthTable}, an
+         *              epoch-month in the Gregorian calendar.
+         * @return the data of the month
+         * @throws Exception if the data could not be loaded
+         */
+        T load(int month) throws Exception;
+    }
+
+    private final class LoadTask extends FutureTask<T> {
+
+        private final int mMonth;
+
+        // guarded by mInFlight
+        boolean mAwaited;
+
+        LoadTask(final int month) {
+            super(new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+                    return mLoader.load(month);
+                }
+            });
+            mMonth = month;
+        }
+
+        @Override
+        protected void set(T data) {
+            super.set(data);
+            if (data != null) {
+                synchronized (mCache) {
+                    mCache.put(mMonth, data);
+                }
+            }
+        }
+
+        @Override
+        protected void done() {
+            synchronized (mInFlight) {
+                if (mInFlight.get(mMonth) == this) {
+                    mInFlight.remove(mMonth);
+                }
+            }
+        }
+    }
+}
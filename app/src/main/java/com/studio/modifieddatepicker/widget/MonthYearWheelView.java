@@ -0,0 +1,726 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Bundle;
+import android.support.v4.view.ViewCompat;
+import android.support.v4.view.accessibility.AccessibilityNodeInfoCompat;
+import android.support.v4.widget.ExploreByTouchHelper;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.VelocityTracker;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.widget.NumberPicker;
+import android.widget.OverScroller;
+
+import com.studio.modifieddatepicker.core.MonthYearWheel;
+import com.studio.modifieddatepicker.utils.YearLabels;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A {@link MonthYearWheel} drawing the month and year columns on a single canvas, replacing the
+ * two framework spinners and their child views. The paints and label widths are shared by all
+ * wheels of the same style and the columns fling on their own scrollers. Months reported disabled
+ * by the callback are drawn greyed out. The up and down keys move the focused column, the left
+ * and right keys switch between the columns, and each column is exposed to accessibility services
+ * as a virtual view that can be scrolled forward and backward.
+ */
+public class MonthYearWheelView extends View implements MonthYearWheel {
+
+    private static final int VISIBLE_ITEMS = 5;
+    private static final float TEXT_SIZE_SP = 18;
+    private static final float COLUMN_GAP_DP = 32;
+    private static final float DIVIDER_HEIGHT_DP = 1;
+    private static final int SNAP_DURATION_MILLIS = 200;
+
+    // the item height relative to the text size
+    private static final float ITEM_HEIGHT_RATIO = 2.2f;
+
+    private static final int UNSELECTED_ALPHA = 0x8a;
+    private static final int DISABLED_ALPHA = 0x42;
+
+    private final WheelStyle mStyle;
+    private final Column[] mColumns;
+
+    private final int mItemHeight;
+    private final float mColumnGap;
+    private final float mDividerHeight;
+
+    private final int mTouchSlop;
+    private final int mMinFlingVelocity;
+    private final int mMaxFlingVelocity;
+
+    private final AccessibilityHelper mAccessibilityHelper;
+
+    private Callback mCallback;
+
+    private YearLabels mYearLabels;
+    private float[][] mYearWidths;
+
+    private VelocityTracker mVelocityTracker;
+    private Column mTouchColumn;
+    private float mDownY;
+    private float mLastTouchY;
+    private boolean mDragging;
+
+    // the x between the columns, updated on every draw
+    private float mColumnSplitX;
+
+    // the column moved by the up and down keys
+    private int mFocusedColumn = COLUMN_MONTH;
+
+    public MonthYearWheelView(Context context) {
+        this(context, null);
+    }
+
+    public MonthYearWheelView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+
+        TypedArray a = context.obtainStyledAttributes(new int[]{android.R.attr.textColorPrimary});
+        int textColor = a.getColor(0, Color.BLACK);
+        a.recycle();
+
+        float textSize = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, TEXT_SIZE_SP,
+                getResources().getDisplayMetrics());
+        mStyle = WheelStyle.get(textColor, textSize, DISABLED_ALPHA);
+        mDividerHeight = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP,
+                DIVIDER_HEIGHT_DP, getResources().getDisplayMetrics());
+
+        mItemHeight = Math.round(textSize * ITEM_HEIGHT_RATIO);
+        mColumnGap = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, COLUMN_GAP_DP,
+                getResources().getDisplayMetrics());
+
+        ViewConfiguration configuration = ViewConfiguration.get(context);
+        mTouchSlop = configuration.getScaledTouchSlop();
+        mMinFlingVelocity = configuration.getScaledMinimumFlingVelocity();
+        mMaxFlingVelocity = configuration.getScaledMaximumFlingVelocity();
+
+        mColumns = new Column[]{
+                new Column(context, COLUMN_MONTH), new Column(context, COLUMN_YEAR)};
+
+        setFocusable(true);
+        mAccessibilityHelper = new AccessibilityHelper();
+        ViewCompat.setAccessibilityDelegate(this, mAccessibilityHelper);
+    }
+
+    @Override
+    public void setCallback(Callback callback) {
+        mCallback = callback;
+    }
+
+    @Override
+    public void setRange(int column, int minValue, int maxValue, String[] displayedValues,
+                         boolean wrap) {
+        getColumn(column).setRange(minValue, maxValue, displayedValues, wrap);
+    }
+
+    @Override
+    public void setYearLabels(YearLabels yearLabels) {
+        if (yearLabels != mYearLabels) {
+            mYearLabels = yearLabels;
+            mYearWidths = mStyle.getYearWidths(yearLabels);
+            invalidate();
+        }
+    }
+
+    @Override
+    public int getValue(int column) {
+        return getColumn(column).mValue;
+    }
+
+    @Override
+    public void setValue(int column, int value) {
+        getColumn(column).setValue(value);
+    }
+
+    @Override
+    public void invalidateEnabledMonths() {
+        invalidate();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = (int) Math.ceil(getPaddingLeft() + getPaddingRight()
+                + mColumns[COLUMN_MONTH].mMaxLabelWidth + mColumnGap
+                + mColumns[COLUMN_YEAR].mMaxLabelWidth);
+        int height = getPaddingTop() + getPaddingBottom() + VISIBLE_ITEMS * mItemHeight;
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec),
+                resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        Column monthColumn = mColumns[COLUMN_MONTH];
+        Column yearColumn = mColumns[COLUMN_YEAR];
+        float contentWidth = getContentWidth();
+        float left = getContentLeft();
+        float centerY = getPaddingTop()
+                + (getHeight() - getPaddingTop() - getPaddingBottom()) / 2f;
+
+        drawColumn(canvas, monthColumn, left + monthColumn.mMaxLabelWidth / 2, centerY);
+        drawColumn(canvas, yearColumn,
+                left + contentWidth - yearColumn.mMaxLabelWidth / 2, centerY);
+        mColumnSplitX = left + monthColumn.mMaxLabelWidth + mColumnGap / 2;
+
+        // the dividers around the selected row
+        float halfItem = mItemHeight / 2f;
+        canvas.drawRect(left, centerY - halfItem, left + contentWidth,
+                centerY - halfItem + mDividerHeight, mStyle.getDividerPaint());
+        canvas.drawRect(left, centerY + halfItem - mDividerHeight, left + contentWidth,
+                centerY + halfItem, mStyle.getDividerPaint());
+
+        if (isFocused()) {
+            // underline the column moved by the keys
+            float columnLeft = mFocusedColumn == COLUMN_MONTH
+                    ? left : left + monthColumn.mMaxLabelWidth + mColumnGap;
+            Paint paint = mStyle.getTextPaint();
+            paint.setAlpha(0xff);
+            canvas.drawRect(columnLeft, centerY + halfItem - 2 * mDividerHeight,
+                    columnLeft + mColumns[mFocusedColumn].mMaxLabelWidth, centerY + halfItem,
+                    paint);
+        }
+    }
+
+    private float getContentWidth() {
+        return mColumns[COLUMN_MONTH].mMaxLabelWidth + mColumnGap
+                + mColumns[COLUMN_YEAR].mMaxLabelWidth;
+    }
+
+    private float getContentLeft() {
+        return getPaddingLeft()
+                + (getWidth() - getPaddingLeft() - getPaddingRight() - getContentWidth()) / 2;
+    }
+
+    // the bounds of a column, its labels across the height of the view
+    private void getColumnBounds(int column, Rect bounds) {
+        float left = getContentLeft();
+        if (column == COLUMN_YEAR) {
+            left += mColumns[COLUMN_MONTH].mMaxLabelWidth + mColumnGap;
+        }
+        bounds.set((int) left, getPaddingTop(),
+                (int) Math.ceil(left + mColumns[column].mMaxLabelWidth),
+                getHeight() - getPaddingBottom());
+    }
+
+    private void drawColumn(Canvas canvas, Column column, float centerX, float centerY) {
+        int index = floorDiv(column.mScrollY, mItemHeight);
+        int offset = column.mScrollY - index * mItemHeight;
+        int halfVisible = VISIBLE_ITEMS / 2 + 1;
+        for (int i = -halfVisible; i <= halfVisible; i++) {
+            if (!column.isValidIndex(index + i)) {
+                continue;
+            }
+            int value = column.getValueAt(index + i);
+            float y = centerY + i * mItemHeight - offset;
+            int alpha = Math.abs(y - centerY) < mItemHeight / 2f ? 0xff : UNSELECTED_ALPHA;
+            if (column.mId == COLUMN_MONTH && mCallback != null
+                    && !mCallback.isMonthEnabled(value)) {
+                alpha = DISABLED_ALPHA;
+            }
+            mStyle.getTextPaint().setAlpha(alpha);
+            canvas.drawText(column.getLabel(value), centerX - column.getLabelWidth(value) / 2,
+                    y + mStyle.getBaselineOffset(), mStyle.getTextPaint());
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (mVelocityTracker == null) {
+            mVelocityTracker = VelocityTracker.obtain();
+        }
+        mVelocityTracker.addMovement(event);
+
+        float y = event.getY();
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                mTouchColumn = event.getX() < mColumnSplitX
+                        ? mColumns[COLUMN_MONTH] : mColumns[COLUMN_YEAR];
+                mTouchColumn.mScroller.forceFinished(true);
+                mTouchColumn.mScrolling = true;
+                mDownY = y;
+                mLastTouchY = y;
+                mDragging = false;
+                if (getParent() != null) {
+                    getParent().requestDisallowInterceptTouchEvent(true);
+                }
+                return true;
+            case MotionEvent.ACTION_MOVE:
+                if (mTouchColumn == null) {
+                    return false;
+                }
+                if (!mDragging && Math.abs(y - mDownY) > mTouchSlop) {
+                    mDragging = true;
+                    mLastTouchY = y;
+                }
+                if (mDragging) {
+                    // keep the fraction of a pixel for the next move
+                    int deltaY = (int) (y - mLastTouchY);
+                    mLastTouchY += deltaY;
+                    mTouchColumn.scrollTo(mTouchColumn.mScrollY - deltaY);
+                }
+                return true;
+            case MotionEvent.ACTION_UP:
+                if (mTouchColumn == null) {
+                    return false;
+                }
+                if (mDragging) {
+                    mVelocityTracker.computeCurrentVelocity(1000, mMaxFlingVelocity);
+                    int velocityY = (int) mVelocityTracker.getYVelocity();
+                    if (Math.abs(velocityY) > mMinFlingVelocity) {
+                        mTouchColumn.fling(-velocityY);
+                    } else {
+                        mTouchColumn.settle();
+                    }
+                } else {
+                    // a tap above or below the selection moves to the tapped value
+                    float centerY = getPaddingTop()
+                            + (getHeight() - getPaddingTop() - getPaddingBottom()) / 2f;
+                    int items = Math.round((y - centerY) / mItemHeight);
+                    mTouchColumn.scrollBy(items * mItemHeight);
+                }
+                endTouch();
+                return true;
+            case MotionEvent.ACTION_CANCEL:
+                if (mTouchColumn != null) {
+                    mTouchColumn.settle();
+                }
+                endTouch();
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public boolean onKeyDown(int keyCode, KeyEvent event) {
+        if (isEnabled()) {
+            switch (keyCode) {
+                case KeyEvent.KEYCODE_DPAD_UP:
+                    if (mColumns[mFocusedColumn].step(-1)) {
+                        return true;
+                    }
+                    break;
+                case KeyEvent.KEYCODE_DPAD_DOWN:
+                    if (mColumns[mFocusedColumn].step(1)) {
+                        return true;
+                    }
+                    break;
+                case KeyEvent.KEYCODE_DPAD_LEFT:
+                    if (mFocusedColumn == COLUMN_YEAR) {
+                        mFocusedColumn = COLUMN_MONTH;
+                        invalidate();
+                        return true;
+                    }
+                    break;
+                case KeyEvent.KEYCODE_DPAD_RIGHT:
+                    if (mFocusedColumn == COLUMN_MONTH) {
+                        mFocusedColumn = COLUMN_YEAR;
+                        invalidate();
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        // at the end of a column or the side of the view, let the focus move on
+        return super.onKeyDown(keyCode, event);
+    }
+
+    @Override
+    protected void onFocusChanged(boolean gainFocus, int direction, Rect previouslyFocusedRect) {
+        super.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
+        if (gainFocus) {
+            // focus coming from the right lands on the year
+            mFocusedColumn = direction == FOCUS_LEFT ? COLUMN_YEAR : COLUMN_MONTH;
+        }
+        mAccessibilityHelper.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
+        invalidate();
+    }
+
+    @Override
+    public boolean dispatchHoverEvent(MotionEvent event) {
+        return mAccessibilityHelper.dispatchHoverEvent(event) || super.dispatchHoverEvent(event);
+    }
+
+    @Override
+    public void computeScroll() {
+        for (Column column : mColumns) {
+            OverScroller scroller = column.mScroller;
+            if (scroller.computeScrollOffset()) {
+                column.scrollTo(scroller.getCurrY());
+                if (scroller.isFinished()) {
+                    column.settle();
+                } else {
+                    postInvalidateOnAnimation();
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        // a recycled wheel must not keep flinging into the selection it is bound to next
+        for (Column column : mColumns) {
+            column.stop();
+        }
+        endTouch();
+    }
+
+    private void endTouch() {
+        mTouchColumn = null;
+        mDragging = false;
+        if (mVelocityTracker != null) {
+            mVelocityTracker.recycle();
+            mVelocityTracker = null;
+        }
+    }
+
+    private Column getColumn(int column) {
+        if (column != COLUMN_MONTH && column != COLUMN_YEAR) {
+            throw new IllegalArgumentException("Unknown column " + column);
+        }
+        return mColumns[column];
+    }
+
+    private static int floorDiv(int x, int y) {
+        int quotient = x / y;
+        return x % y != 0 && (x < 0) != (y < 0) ? quotient - 1 : quotient;
+    }
+
+    // the number of chars of the value as a decimal, including the minus sign
+    private static int countChars(int value) {
+        int chars = value < 0 ? 2 : 1;
+        for (long rest = Math.abs((long) value); rest >= 10; rest /= 10) {
+            chars++;
+        }
+        return chars;
+    }
+
+    /**
+     * The values and scroll position of a column. The position is in pixels with the value v
+     * centered at v times the item height, so changing the range keeps the position.
+     */
+    private final class Column {
+
+        final int mId;
+        final OverScroller mScroller;
+
+        int mMinValue;
+        int mMaxValue;
+        int mValue;
+        boolean mWrap;
+        int mScrollY;
+        boolean mScrolling;
+
+        // the labels and their widths, or null to show the values using the year table
+        String[] mDisplayedValues;
+        float[] mDisplayedWidths;
+        float mMaxLabelWidth;
+
+        Column(Context context, int id) {
+            mId = id;
+            mScroller = new OverScroller(context);
+            // a single empty value until the delegate sets the range
+            mDisplayedValues = new String[]{""};
+            mDisplayedWidths = new float[1];
+        }
+
+        void setRange(int minValue, int maxValue, String[] displayedValues, boolean wrap) {
+            if (displayedValues != mDisplayedValues || minValue != mMinValue
+                    || maxValue != mMaxValue) {
+                mDisplayedValues = displayedValues;
+                if (displayedValues != null) {
+                    mDisplayedWidths = mStyle.getLabelWidths(displayedValues);
+                } else {
+                    mDisplayedWidths = null;
+                    if (mYearLabels == null) {
+                        setYearLabels(YearLabels.get(Locale.getDefault(), minValue, maxValue));
+                    }
+                }
+                updateMaxLabelWidth(minValue, maxValue);
+            }
+            mMinValue = minValue;
+            mMaxValue = maxValue;
+            mWrap = wrap;
+
+            // keep the value inside of the range and the position on the value
+            mValue = Math.max(minValue, Math.min(maxValue, mValue));
+            int position = mValue * mItemHeight + getOffset();
+            if (position != mScrollY) {
+                mScrollY = position;
+                if (!mScroller.isFinished()) {
+                    mScroller.forceFinished(true);
+                    settle();
+                }
+            }
+            invalidateColumn();
+        }
+
+        void setValue(int value) {
+            value = Math.max(mMinValue, Math.min(mMaxValue, value));
+            if (value == mValue) {
+                return;
+            }
+            // move by the difference of the values, a wrapped column stays on its turn
+            int index = getIndex();
+            mScrollY = (index + value - mValue) * mItemHeight + getOffset();
+            mValue = value;
+            if (!mScroller.isFinished()) {
+                // the value was corrected by the delegate, the fling would overrule it
+                mScroller.forceFinished(true);
+                settle();
+            }
+            invalidateColumn();
+        }
+
+        /**
+         * Moves the position, notifying the callback of every value passed. While the callback
+         * runs the position is centered on the value it is told about, so a value or range set
+         * by the callback moves the position from there; the rest of the move is then dropped.
+         */
+        void scrollTo(int scrollY) {
+            int index = getIndex();
+            int startValue = mValue;
+            while (true) {
+                // the callback may have changed the range
+                if (!mWrap) {
+                    scrollY = Math.max(mMinValue * mItemHeight,
+                            Math.min(mMaxValue * mItemHeight, scrollY));
+                }
+                int target = floorDiv(scrollY + mItemHeight / 2, mItemHeight);
+                if (index == target) {
+                    mScrollY = scrollY;
+                    break;
+                }
+                index += target > index ? 1 : -1;
+                int oldValue = mValue;
+                int newValue = getValueAt(index);
+                int position = index * mItemHeight;
+                mValue = newValue;
+                mScrollY = position;
+                if (mCallback != null) {
+                    mCallback.onValueChange(mId, oldValue, newValue);
+                }
+                if (mValue != newValue || mScrollY != position) {
+                    // the callback touched the column, the target is stale
+                    break;
+                }
+            }
+            if (mValue != startValue) {
+                invalidateColumn();
+            } else {
+                invalidate();
+            }
+        }
+
+        /**
+         * Snaps to the next or previous value, as the keys and accessibility actions do.
+         *
+         * @return false if the column cannot move that way
+         */
+        boolean step(int direction) {
+            int value = mValue + direction;
+            if (!mWrap && (value < mMinValue || value > mMaxValue)) {
+                return false;
+            }
+            // finish a running snap first, its end would be one step behind
+            stop();
+            scrollBy(direction * mItemHeight);
+            return true;
+        }
+
+        void scrollBy(int deltaY) {
+            if (deltaY == 0) {
+                settle();
+                return;
+            }
+            mScrolling = true;
+            mScroller.startScroll(0, mScrollY, 0, deltaY, SNAP_DURATION_MILLIS);
+            postInvalidateOnAnimation();
+        }
+
+        void fling(int velocityY) {
+            mScrolling = true;
+            int minY = mWrap ? Integer.MIN_VALUE / 2 : mMinValue * mItemHeight;
+            int maxY = mWrap ? Integer.MAX_VALUE / 2 : mMaxValue * mItemHeight;
+            mScroller.fling(0, mScrollY, 0, velocityY, 0, 0, minY, maxY);
+            postInvalidateOnAnimation();
+        }
+
+        /**
+         * Snaps the position onto the selected value, notifying the callback once at rest.
+         */
+        void settle() {
+            int offset = getOffset();
+            if (offset != 0) {
+                mScroller.startScroll(0, mScrollY, 0, -offset, SNAP_DURATION_MILLIS);
+                postInvalidateOnAnimation();
+            } else if (mScrolling) {
+                mScrolling = false;
+                if (mCallback != null) {
+                    mCallback.onScrollIdle();
+                }
+            }
+        }
+
+        /**
+         * Stops scrolling right away, moving the position onto the selected value.
+         */
+        void stop() {
+            mScroller.forceFinished(true);
+            mScrollY -= getOffset();
+            mScrolling = false;
+            invalidate();
+        }
+
+        // redraws the column and tells accessibility services its value or range changed
+        void invalidateColumn() {
+            invalidate();
+            mAccessibilityHelper.invalidateVirtualView(mId);
+        }
+
+        boolean isValidIndex(int index) {
+            return mWrap || (index >= mMinValue && index <= mMaxValue);
+        }
+
+        int getValueAt(int index) {
+            if (!mWrap) {
+                return Math.max(mMinValue, Math.min(mMaxValue, index));
+            }
+            int count = mMaxValue - mMinValue + 1;
+            int turn = index - mMinValue;
+            return mMinValue + turn - floorDiv(turn, count) * count;
+        }
+
+        String getLabel(int value) {
+            return mDisplayedValues != null
+                    ? mDisplayedValues[value - mMinValue] : mYearLabels.getLabel(value);
+        }
+
+        float getLabelWidth(int value) {
+            if (mDisplayedWidths != null) {
+                return mDisplayedWidths[value - mMinValue];
+            }
+            int i = value - mYearLabels.getMinYear();
+            if (i < 0 || i >= mYearLabels.size()) {
+                return mStyle.getTextPaint().measureText(getLabel(value));
+            }
+            float[] page = mYearWidths[i / YearLabels.PAGE_SIZE];
+            if (page == null) {
+                page = new float[YearLabels.PAGE_SIZE];
+                mYearWidths[i / YearLabels.PAGE_SIZE] = page;
+            }
+            if (page[i % YearLabels.PAGE_SIZE] == 0) {
+                page[i % YearLabels.PAGE_SIZE] =
+                        mStyle.getTextPaint().measureText(getLabel(value));
+            }
+            return page[i % YearLabels.PAGE_SIZE];
+        }
+
+        // the index of the value nearest to the center
+        private int getIndex() {
+            return floorDiv(mScrollY + mItemHeight / 2, mItemHeight);
+        }
+
+        // the distance of the position from the value nearest to the center
+        private int getOffset() {
+            return mScrollY - getIndex() * mItemHeight;
+        }
+
+        private void updateMaxLabelWidth(int minValue, int maxValue) {
+            float maxLabelWidth;
+            if (mDisplayedWidths != null) {
+                maxLabelWidth = 0;
+                for (float width : mDisplayedWidths) {
+                    maxLabelWidth = Math.max(maxLabelWidth, width);
+                }
+            } else {
+                // numbers are about as wide as their digits, no need to measure every one; the
+                // digits of the locale may be wider than the measured ones
+                maxLabelWidth = Math.max(Math.max(countChars(minValue), countChars(maxValue))
+                        * mStyle.getMaxDigitWidth(),
+                        Math.max(getLabelWidth(minValue), getLabelWidth(maxValue)));
+            }
+            // never shrink, to not relayout while scrolling between ranges
+            if (maxLabelWidth > mMaxLabelWidth) {
+                mMaxLabelWidth = maxLabelWidth;
+                requestLayout();
+            }
+        }
+    }
+
+    /**
+     * Exposes the columns as virtual views, as the framework spinners were exposed as views.
+     */
+    private final class AccessibilityHelper extends ExploreByTouchHelper {
+
+        private final Rect mBounds = new Rect();
+
+        AccessibilityHelper() {
+            super(MonthYearWheelView.this);
+        }
+
+        @Override
+        protected int getVirtualViewAt(float x, float y) {
+            return x < mColumnSplitX ? COLUMN_MONTH : COLUMN_YEAR;
+        }
+
+        @Override
+        protected void getVisibleVirtualViews(List<Integer> virtualViewIds) {
+            virtualViewIds.add(COLUMN_MONTH);
+            virtualViewIds.add(COLUMN_YEAR);
+        }
+
+        @Override
+        protected void onPopulateNodeForVirtualView(int virtualViewId,
+                                                    AccessibilityNodeInfoCompat node) {
+            Column column = mColumns[virtualViewId];
+            node.setClassName(NumberPicker.class.getName());
+            node.setText(column.getLabel(column.mValue));
+            getColumnBounds(virtualViewId, mBounds);
+            node.setBoundsInParent(mBounds);
+            node.setFocusable(true);
+            node.setScrollable(true);
+            node.setEnabled(isEnabled() && (virtualViewId != COLUMN_MONTH || mCallback == null
+                    || mCallback.isMonthEnabled(column.mValue)));
+            if (isEnabled()) {
+                if (column.mWrap || column.mValue < column.mMaxValue) {
+                    node.addAction(AccessibilityNodeInfoCompat.ACTION_SCROLL_FORWARD);
+                }
+                if (column.mWrap || column.mValue > column.mMinValue) {
+                    node.addAction(AccessibilityNodeInfoCompat.ACTION_SCROLL_BACKWARD);
+                }
+            }
+        }
+
+        @Override
+        protected boolean onPerformActionForVirtualView(int virtualViewId, int action,
+                                                        Bundle arguments) {
+            if (!isEnabled()) {
+                return false;
+            }
+            switch (action) {
+                case AccessibilityNodeInfoCompat.ACTION_SCROLL_FORWARD:
+                    return mColumns[virtualViewId].step(1);
+                case AccessibilityNodeInfoCompat.ACTION_SCROLL_BACKWARD:
+                    return mColumns[virtualViewId].step(-1);
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.widget.NumberPicker;
+
+import com.studio.modifieddatepicker.core.MonthYearWheel;
+import com.studio.modifieddatepicker.utils.YearLabels;
+
+/**
+ * A {@link MonthYearWheel} backed by two framework {@link NumberPicker}s. The spinners cannot
+ * draw single values disabled, unavailable months are skipped by the delegate instead.
+ */
+class NumberPickerWheel implements MonthYearWheel {
+
+    private final NumberPicker mMonthSpinner;
+    private final NumberPicker mYearSpinner;
+
+    private final NumberPicker.Formatter mYearFormatter = new NumberPicker.Formatter() {
+        @Override
+        public String format(int value) {
+            return mYearLabels != null ? mYearLabels.getLabel(value) : String.valueOf(value);
+        }
+    };
+
+    private YearLabels mYearLabels;
+
+    NumberPickerWheel(NumberPicker monthSpinner, NumberPicker yearSpinner) {
+        mMonthSpinner = monthSpinner;
+        mMonthSpinner.setOnLongPressUpdateInterval(200);
+        mYearSpinner = yearSpinner;
+        mYearSpinner.setOnLongPressUpdateInterval(100);
+        mYearSpinner.setWrapSelectorWheel(false);
+        // the spinner formats every visible year on every frame, hand out the shared labels
+        mYearSpinner.setFormatter(mYearFormatter);
+    }
+
+    @Override
+    public void setCallback(final Callback callback) {
+        if (callback == null) {
+            mMonthSpinner.setOnValueChangedListener(null);
+            mMonthSpinner.setOnScrollListener(null);
+            mYearSpinner.setOnValueChangedListener(null);
+            mYearSpinner.setOnScrollListener(null);
+            return;
+        }
+
+        NumberPicker.OnValueChangeListener onChangeListener = new NumberPicker
+                .OnValueChangeListener() {
+            public void onValueChange(NumberPicker picker, int oldVal, int newVal) {
+                if (picker == mMonthSpinner) {
+                    callback.onValueChange(COLUMN_MONTH, oldVal, newVal);
+                } else if (picker == mYearSpinner) {
+                    callback.onValueChange(COLUMN_YEAR, oldVal, newVal);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            }
+        };
+
+        NumberPicker.OnScrollListener onScrollListener = new NumberPicker.OnScrollListener() {
+            @Override
+            public void onScrollStateChange(NumberPicker view, int scrollState) {
+                if (scrollState == SCROLL_STATE_IDLE) {
+                    callback.onScrollIdle();
+                }
+            }
+        };
+
+        mMonthSpinner.setOnValueChangedListener(onChangeListener);
+        mMonthSpinner.setOnScrollListener(onScrollListener);
+        mYearSpinner.setOnValueChangedListener(onChangeListener);
+        mYearSpinner.setOnScrollListener(onScrollListener);
+    }
+
+    @Override
+    public void setRange(int column, int minValue, int maxValue, String[] displayedValues,
+                         boolean wrap) {
+        NumberPicker spinner = getSpinner(column);
+        // the displayed values are checked against the range, clear them before changing it
+        spinner.setDisplayedValues(null);
+        spinner.setMinValue(minValue);
+        spinner.setMaxValue(maxValue);
+        spinner.setWrapSelectorWheel(wrap);
+        spinner.setDisplayedValues(displayedValues);
+    }
+
+    @Override
+    public void setYearLabels(YearLabels yearLabels) {
+        if (yearLabels == mYearLabels) {
+            return;
+        }
+        mYearLabels = yearLabels;
+        // the spinner only drops the years it formatted when the formatter changes
+        mYearSpinner.setFormatter(null);
+        mYearSpinner.setFormatter(mYearFormatter);
+    }
+
+    @Override
+    public int getValue(int column) {
+        return getSpinner(column).getValue();
+    }
+
+    @Override
+    public void setValue(int column, int value) {
+        getSpinner(column).setValue(value);
+    }
+
+    @Override
+    public void invalidateEnabledMonths() {
+        // nothing to redraw, the spinners draw every month enabled
+    }
+
+    private NumberPicker getSpinner(int column) {
+        switch (column) {
+            case COLUMN_MONTH:
+                return mMonthSpinner;
+            case COLUMN_YEAR:
+                return mYearSpinner;
+            default:
+                throw new IllegalArgumentException("Unknown column " + column);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.studio.modifieddatepicker.widget;
+
+import com.studio.modifieddatepicker.utils.MonthMask;
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+/**
+ * An immutable, validated configuration of a {@link SimpleDatePickerDelegate}, applied to the
+ * spinners in a single pass. Create one with {@link Builder}.
+ */
+public final class SimpleDatePickerConfig {
+
+    private final Locale mLocale;
+    private final Calendar mCalendar;
+    private final MonthTable mMonthTable;
+    private final int mMinMonth;
+    private final int mMaxMonth;
+    private final int mSelectedMonth;
+    private final MonthMask mAvailableMonths;
+    private final SimpleDatePickerDelegate.OnDateChangedListener mOnDateChangedListener;
+    private final int mDispatchMode;
+
+    private SimpleDatePickerConfig(Builder builder, MonthTable monthTable, int minMonth,
+                                   int maxMonth, int selectedMonth, MonthMask availableMonths) {
+        mLocale = builder.mLocale;
+        mCalendar = builder.mCalendar;
+        mMonthTable = monthTable;
+        mMinMonth = minMonth;
+        mMaxMonth = maxMonth;
+        mSelectedMonth = selectedMonth;
+        mAvailableMonths = availableMonths;
+        mOnDateChangedListener = builder.mOnDateChangedListener;
+        mDispatchMode = builder.mDispatchMode;
+    }
+
+    public Locale getLocale() {
+        return mLocale;
+    }
+
+    /**
+     * @return a copy of the calendar of the calendar system, or null if the locale's calendar
+     * system is used
+     */
+    public Calendar getCalendar() {
+        return mCalendar != null ? (Calendar) mCalendar.clone() : null;
+    }
+
+    /**
+     * @return the table of the calendar system, the months of the picker are month indices of
+     * this table
+     */
+    public MonthTable getMonthTable() {
+        return mMonthTable;
+    }
+
+    public int getMinMonth() {
+        return mMinMonth;
+    }
+
+    public int getMaxMonth() {
+        return mMaxMonth;
+    }
+
+    /**
+     * @return the selected month as a month index of the picker's {@link MonthTable}, inside of
+     * the min and max months
+     */
+    public int getSelectedMonth() {
+        return mSelectedMonth;
+    }
+
+    /**
+     * @return a new mask of the available months, or null if every month is available
+     */
+    public MonthMask getAvailableMonths() {
+        return mAvailableMonths != null ? copy(mAvailableMonths) : null;
+    }
+
+    public SimpleDatePickerDelegate.OnDateChangedListener getOnDateChangedListener() {
+        return mOnDateChangedListener;
+    }
+
+    public int getDispatchMode() {
+        return mDispatchMode;
+    }
+
+    private static MonthMask copy(MonthMask mask) {
+        return new MonthMask(mask.getFirstMonth(), mask.getLastMonth(), mask.toWords());
+    }
+
+    /**
+     * Builds a {@link SimpleDatePickerConfig}. Unset values default to the default locale, the
+     * default year range of the picker and the current month.
+     */
+    public static final class Builder {
+
+        private static final int UNSET = Integer.MIN_VALUE;
+
+        private Locale mLocale = Locale.getDefault();
+        private Calendar mCalendar;
+        private int mMinMonth = UNSET;
+        private int mMaxMonth = UNSET;
+        private int mSelectedMonth = UNSET;
+        private int mSelectedYear = UNSET;
+        private int mSelectedMonthOfYear;
+        private MonthMask mAvailableMonths;
+        private SimpleDatePickerDelegate.OnDateChangedListener mOnDateChangedListener;
+        private int mDispatchMode = SimpleDatePickerDelegate.DISPATCH_IMMEDIATE;
+
+        public Builder setLocale(Locale locale) {
+            mLocale = locale;
+            return this;
+        }
+
+        /**
+         * Sets a calendar system other than the one of the locale, e.g. a calendar with 13
+         * months. The months set on the builder are month indices of its {@link MonthTable}.
+         *
+         * @param calendar The calendar of the calendar system, only its type and settings are
+         *                 used. Null to use the locale's calendar system.
+         */
+        public Builder setCalendar(Calendar calendar) {
+            mCalendar = calendar != null ? (Calendar) calendar.clone() : null;
+            return this;
+        }
+
+        /**
+         * @param minMonth The min month as a month index of the picker's {@link MonthTable}.
+         */
+        public Builder setMinMonth(int minMonth) {
+            mMinMonth = minMonth;
+            return this;
+        }
+
+        /**
+         * @param maxMonth The max month as a month index of the picker's {@link MonthTable}.
+         */
+        public Builder setMaxMonth(int maxMonth) {
+            mMaxMonth = maxMonth;
+            return this;
+        }
+
+        /**
+         * @param year        The initial year.
+         * @param monthOfYear The initial month of the year, starting at 0.
+         */
+        public Builder setSelection(int year, int monthOfYear) {
+            mSelectedYear = year;
+            mSelectedMonthOfYear = monthOfYear;
+            mSelectedMonth = UNSET;
+            return this;
+        }
+
+        /**
+         * @param selectedMonth The initial month as a month index of the picker's
+         *                      {@link MonthTable}.
+         */
+        public Builder setSelectedMonth(int selectedMonth) {
+            mSelectedMonth = selectedMonth;
+            mSelectedYear = UNSET;
+            return this;
+        }
+
+        /**
+         * @param availableMonths The available months, or null if every month is available. The
+         *                        mask is copied by {@link #build()}, so later changes to it do
+         *                        not reach the configuration.
+         */
+        public Builder setAvailableMonths(MonthMask availableMonths) {
+            mAvailableMonths = availableMonths;
+            return this;
+        }
+
+        public Builder setOnDateChangedListener(
+                SimpleDatePickerDelegate.OnDateChangedListener onDateChangedListener) {
+            mOnDateChangedListener = onDateChangedListener;
+            return this;
+        }
+
+        /**
+         * @param dispatchMode One of the DISPATCH constants of {@link SimpleDatePickerDelegate}.
+         */
+        public Builder setDispatchMode(int dispatchMode) {
+            mDispatchMode = dispatchMode;
+            return this;
+        }
+
+        /**
+         * Validates the configuration. The selection is clamped to the min and max months as the
+         * picker would. The builder is not changed, unset values are resolved again by the next
+         * build, e.g. after a change of the locale.
+         *
+         * @return the configuration
+         */
+        public SimpleDatePickerConfig build() {
+            if (mLocale == null) {
+                throw new IllegalArgumentException("The locale should not be null.");
+            }
+            MonthTable table = mCalendar != null
+                    ? MonthTable.forCalendar((Calendar) mCalendar.clone())
+                    : MonthTable.forLocale(mLocale);
+            int minMonth = mMinMonth;
+            if (minMonth == UNSET) {
+                minMonth = table.toIndex(SimpleDatePickerDelegate.DEFAULT_START_YEAR, 0);
+            }
+            int maxMonth = mMaxMonth;
+            if (maxMonth == UNSET) {
+                int endYear = SimpleDatePickerDelegate.DEFAULT_END_YEAR;
+                maxMonth = table.toIndex(endYear, table.getMonthsInYear(endYear) - 1);
+            }
+            if (maxMonth < minMonth) {
+                throw new IllegalArgumentException(
+                        "The max date should not be less than min date.");
+            }
+            if (mDispatchMode != SimpleDatePickerDelegate.DISPATCH_IMMEDIATE
+                    && mDispatchMode != SimpleDatePickerDelegate.DISPATCH_COALESCED
+                    && mDispatchMode != SimpleDatePickerDelegate.DISPATCH_SETTLED) {
+                throw new IllegalArgumentException("Unknown dispatch mode " + mDispatchMode);
+            }
+            int selectedMonth = mSelectedMonth;
+            if (mSelectedYear != UNSET) {
+                selectedMonth = table.toIndex(mSelectedYear, mSelectedMonthOfYear);
+            } else if (selectedMonth == UNSET) {
+                Calendar calendar = mCalendar != null
+                        ? (Calendar) mCalendar.clone() : Calendar.getInstance(mLocale);
+                calendar.setTimeInMillis(System.currentTimeMillis());
+                selectedMonth = table.toIndex(calendar.get(Calendar.YEAR),
+                        calendar.get(Calendar.MONTH));
+            }
+            selectedMonth = table.normalize(selectedMonth, 1);
+            return new SimpleDatePickerConfig(this, table, minMonth, maxMonth,
+                    Math.max(minMonth, Math.min(maxMonth, selectedMonth)),
+                    mAvailableMonths != null ? copy(mAvailableMonths) : null);
+        }
+    }
+}
@@ -1,213 +1,444 @@
 package com.studio.modifieddatepicker.widget;
 
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.NumberPicker;
 
 import com.studio.modifieddatepicker.R;
+import com.studio.modifieddatepicker.core.DateChangeDispatcher;
+import com.studio.modifieddatepicker.core.MonthYearColumns;
+import com.studio.modifieddatepicker.core.MonthYearController;
+import com.studio.modifieddatepicker.core.MonthYearSelection;
+import com.studio.modifieddatepicker.core.MonthYearWheel;
+import com.studio.modifieddatepicker.core.PickerMetrics;
+import com.studio.modifieddatepicker.core.PickerTraceRecorder;
+import com.studio.modifieddatepicker.core.PickerTraceReplayer;
+import com.studio.modifieddatepicker.core.SelectionStore;
+import com.studio.modifieddatepicker.utils.MonthMask;
+import com.studio.modifieddatepicker.utils.MonthTable;
 
-import java.text.DateFormatSymbols;
-import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Locale;
 
 /**
  * A delegate implementing the simple Date Picker functionality and takes care of the spinner UI.
+ * The selection rules are in the Android independent {@link MonthYearController}, the delegate
+ * adapts it to the views and dispatches the changes to the listener. The layout either holds a
+ * {@link MonthYearWheelView} with the id {@code wheel} or two {@link NumberPicker}s with the ids
+ * {@code month} and {@code year}.
  */
 public class SimpleDatePickerDelegate {
 
-    private static final int DEFAULT_START_YEAR = 1900;
-    private static final int DEFAULT_END_YEAR = 2100;
+    /**
+     * Dispatch mode notifying the listener synchronously on every change.
+     */
+    public static final int DISPATCH_IMMEDIATE = DateChangeDispatcher.DISPATCH_IMMEDIATE;
 
-    private final NumberPicker mMonthSpinner;
-    private final NumberPicker mYearSpinner;
+    /**
+     * Dispatch mode notifying the listener at most once per animation frame.
+     */
+    public static final int DISPATCH_COALESCED = DateChangeDispatcher.DISPATCH_COALESCED;
 
-    private Calendar mTempDate;
-    private Calendar mCurrentDate;
-    private Calendar mMinDate;
-    private Calendar mMaxDate;
+    /**
+     * Dispatch mode notifying the listener only once the spinners stopped changing.
+     */
+    public static final int DISPATCH_SETTLED = DateChangeDispatcher.DISPATCH_SETTLED;
+
+    static final int DEFAULT_START_YEAR = 1900;
+    static final int DEFAULT_END_YEAR = 2100;
+
+    static final int SPINNER_MONTH = MonthYearColumns.COLUMN_MONTH;
+    static final int SPINNER_YEAR = MonthYearColumns.COLUMN_YEAR;
+
+    private final View mView;
+    private final MonthYearWheel mWheel;
+    private final MonthYearController mController;
 
-    private String[] mShortMonths;
-    private int mNumberOfMonths;
+    private Calendar mTempDate;
 
     private Locale mCurrentLocale;
 
     private OnDateChangedListener mOnDateChangedListener;
 
+    private final DateChangeDispatcher mDispatcher;
+
+    private PickerTraceRecorder mTraceRecorder;
+
+    /**
+     * Sets the metrics receiving the timings of all pickers in the process.
+     *
+     * @param metrics The metrics, or null to stop recording.
+     */
+    public static void setMetrics(PickerMetrics metrics) {
+        MonthYearController.setMetrics(metrics);
+    }
+
+    static PickerMetrics getMetrics() {
+        return MonthYearController.getMetrics();
+    }
+
+    /**
+     * Inflates a picker layout without a parent, timed as {@link PickerMetrics#PHASE_INFLATE}.
+     *
+     * @param context  The context to inflate with.
+     * @param layoutId The picker layout.
+     * @return the picker view
+     */
+    @SuppressLint("InflateParams")
+    static View inflate(Context context, int layoutId) {
+        PickerMetrics metrics = getMetrics();
+        long token = metrics.begin(PickerMetrics.PHASE_INFLATE);
+        View view = LayoutInflater.from(context).inflate(layoutId, null);
+        metrics.end(PickerMetrics.PHASE_INFLATE, token);
+        return view;
+    }
+
     public SimpleDatePickerDelegate(View parent) {
+        this(parent, new SimpleDatePickerConfig.Builder().build());
+    }
 
-        setCurrentLocale(Locale.getDefault());
-
-        NumberPicker.OnValueChangeListener onChangeListener = new NumberPicker
-                .OnValueChangeListener() {
-            public void onValueChange(NumberPicker picker, int oldVal, int newVal) {
-
-                mTempDate.setTimeInMillis(mCurrentDate.getTimeInMillis());
-
-                // take care of wrapping of days and months to update greater fields
-                if (picker == mMonthSpinner) {
-                    if (oldVal == 11 && newVal == 0) {
-                        mTempDate.add(Calendar.MONTH, 1);
-                    } else if (oldVal == 0 && newVal == 11) {
-                        mTempDate.add(Calendar.MONTH, -1);
-                    } else {
-                        mTempDate.add(Calendar.MONTH, newVal - oldVal);
-                    }
-                } else if (picker == mYearSpinner) {
-                    mTempDate.set(Calendar.YEAR, newVal);
-                } else {
-                    throw new IllegalArgumentException();
+    /**
+     * Creates a delegate configuring the spinners once with the configuration.
+     *
+     * @param parent The view containing the spinners.
+     * @param config The configuration.
+     */
+    public SimpleDatePickerDelegate(View parent, SimpleDatePickerConfig config) {
+        mView = parent;
+        mDispatcher = new DateChangeDispatcher(new DateChangeDispatcher.Scheduler() {
+            @Override
+            public void postOnNextFrame(Runnable task) {
+                mView.postOnAnimation(task);
+            }
+
+            @Override
+            public void postDelayed(Runnable task, long delayMillis) {
+                mView.postDelayed(task, delayMillis);
+            }
+
+            @Override
+            public void remove(Runnable task) {
+                mView.removeCallbacks(task);
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                dispatchDateChanged();
+            }
+        });
+
+        // a single wheel view if the layout has one, otherwise the month and year spinners
+        View wheel = parent.findViewById(R.id.wheel);
+        if (wheel instanceof MonthYearWheel) {
+            mWheel = (MonthYearWheel) wheel;
+        } else {
+            mWheel = new NumberPickerWheel((NumberPicker) parent.findViewById(R.id.month),
+                    (NumberPicker) parent.findViewById(R.id.year));
+        }
+        mController = new MonthYearController(mWheel, config.getLocale());
+        setCurrentLocale(config.getLocale(), config.getCalendar(), config.getMonthTable());
+        mWheel.setCallback(new MonthYearWheel.Callback() {
+            @Override
+            public void onValueChange(int column, int oldVal, int newVal) {
+                onSpinnerValueChange(column, oldVal, newVal);
+            }
+
+            @Override
+            public void onScrollIdle() {
+                if (mTraceRecorder != null) {
+                    mTraceRecorder.recordScrollIdle();
                 }
+                mDispatcher.onScrollIdle();
+            }
 
-                // now set the date to the adjusted one
-                setDate(mTempDate.get(Calendar.YEAR), mTempDate.get(Calendar.MONTH));
-                updateSpinners();
-                notifyDateChanged();
+            @Override
+            public boolean isMonthEnabled(int monthOfYear) {
+                return mController.isMonthEnabled(monthOfYear);
             }
-        };
+        });
 
-        // month
-        mMonthSpinner = (NumberPicker) parent.findViewById(R.id.month);
-        mMonthSpinner.setMinValue(0);
-        mMonthSpinner.setMaxValue(mNumberOfMonths - 1);
-        mMonthSpinner.setDisplayedValues(mShortMonths);
-        mMonthSpinner.setOnLongPressUpdateInterval(200);
-        mMonthSpinner.setOnValueChangedListener(onChangeListener);
+        apply(config);
+    }
 
-        // year
-        mYearSpinner = (NumberPicker) parent.findViewById(R.id.year);
-        mYearSpinner.setOnLongPressUpdateInterval(100);
-        mYearSpinner.setOnValueChangedListener(onChangeListener);
+    /**
+     * Replaces the locale, bounds, selection, listener and dispatch mode with the configuration
+     * and updates the spinners once. The listener is not notified and a bound selection is
+     * unbound.
+     *
+     * @param config The configuration.
+     */
+    public void apply(SimpleDatePickerConfig config) {
+        if (!config.getLocale().equals(mCurrentLocale)
+                || config.getMonthTable() != mController.getMonthTable()) {
+            setCurrentLocale(config.getLocale(), config.getCalendar(), config.getMonthTable());
+        }
+        mDispatcher.cancel();
+        mDispatcher.setMode(config.getDispatchMode());
+        mOnDateChangedListener = config.getOnDateChangedListener();
+        mController.apply(config.getSelectedMonth(), config.getMinMonth(), config.getMaxMonth(),
+                config.getAvailableMonths());
+    }
 
-        // set the min date giving priority of the minDate over startYear
-        mTempDate.clear();
-        mTempDate.set(DEFAULT_START_YEAR, 0, 1);
-        setMinDate(mTempDate.getTimeInMillis());
+    /**
+     * Binds the picker to the selection, replacing the bounds, available months and selected
+     * month in a single pass without allocating, so that a picker recycled in a list can be
+     * bound to the selection of its next row. The listener is not notified and pending
+     * dispatches of the previous selection are dropped. Until another selection is bound the
+     * picker works on the selection, so its selected month follows the picker.
+     *
+     * @param selection The selection, or null to stop changing the bound one.
+     */
+    public void bind(MonthYearSelection selection) {
+        if (selection != null) {
+            mDispatcher.cancel();
+        }
+        mController.bind(selection);
+    }
 
-        // set the max date giving priority of the maxDate over endYear
-        mTempDate.clear();
-        mTempDate.set(DEFAULT_END_YEAR, 11, 31);
-        setMaxDate(mTempDate.getTimeInMillis());
+    /**
+     * Applies a value change of one of the spinners to the selection.
+     *
+     * @param spinner Either {@link #SPINNER_MONTH} or {@link #SPINNER_YEAR}.
+     * @param oldVal  The previous value of the spinner.
+     * @param newVal  The new value of the spinner.
+     */
+    private void onSpinnerValueChange(int spinner, int oldVal, int newVal) {
+        if (mTraceRecorder != null) {
+            mTraceRecorder.record(spinner, oldVal, newVal);
+        }
 
-        // initialize to current date
-        mCurrentDate.setTimeInMillis(System.currentTimeMillis());
-        init(mCurrentDate.get(Calendar.YEAR), mCurrentDate.get(Calendar.MONTH), null);
+        mController.onValueChange(spinner, oldVal, newVal);
+        notifyDateChanged();
     }
 
     public void init(int year, int monthOfYear, OnDateChangedListener onDateChangedListener) {
-        setDate(year, monthOfYear);
-        updateSpinners();
+        mController.setSelectedMonth(mController.getMonthTable().toIndex(year, monthOfYear));
         mOnDateChangedListener = onDateChangedListener;
     }
 
     public void setMinDate(long minDate) {
         mTempDate.setTimeInMillis(minDate);
-        if (mTempDate.get(Calendar.YEAR) == mMinDate.get(Calendar.YEAR)
-                && mTempDate.get(Calendar.DAY_OF_YEAR) != mMinDate.get(Calendar.DAY_OF_YEAR)) {
-            return;
-        }
-        mMinDate.setTimeInMillis(minDate);
-        if (mCurrentDate.before(mMinDate)) {
-            mCurrentDate.setTimeInMillis(mMinDate.getTimeInMillis());
-        }
-        updateSpinners();
+        setMinMonth(mController.getMonthTable().toIndex(mTempDate.get(Calendar.YEAR),
+                mTempDate.get(Calendar.MONTH)));
     }
 
     public void setMaxDate(long maxDate) {
         mTempDate.setTimeInMillis(maxDate);
-        if (mTempDate.get(Calendar.YEAR) == mMaxDate.get(Calendar.YEAR)
-                && mTempDate.get(Calendar.DAY_OF_YEAR) != mMaxDate.get(Calendar.DAY_OF_YEAR)) {
-            return;
-        }
-        mMaxDate.setTimeInMillis(maxDate);
-        if (mCurrentDate.after(mMaxDate)) {
-            mCurrentDate.setTimeInMillis(mMaxDate.getTimeInMillis());
-        }
-        updateSpinners();
+        setMaxMonth(mController.getMonthTable().toIndex(mTempDate.get(Calendar.YEAR),
+                mTempDate.get(Calendar.MONTH)));
     }
 
-    public int getYear() {
-        return mCurrentDate.get(Calendar.YEAR);
+    /**
+     * Sets the minimal selectable month.
+     *
+     * @param minMonth The min month as a month index of the picker's {@link MonthTable}.
+     */
+    public void setMinMonth(int minMonth) {
+        mController.setMinMonth(minMonth);
     }
 
-    public int getMonth() {
-        return mCurrentDate.get(Calendar.MONTH);
+    /**
+     * Sets the maximal selectable month.
+     *
+     * @param maxMonth The max month as a month index of the picker's {@link MonthTable}.
+     */
+    public void setMaxMonth(int maxMonth) {
+        mController.setMaxMonth(maxMonth);
     }
 
     /**
-     * Sets the current locale.
+     * Sets the months which can be selected inside of the min and max dates. When the spinners
+     * land on an unavailable month the selection skips to the next available month in the
+     * direction of the change. The mask is read on every change and should be set again after
+     * it is modified.
      *
-     * @param locale The current locale.
+     * @param availableMonths The available months, or null if every month is available.
      */
-    protected void setCurrentLocale(Locale locale) {
-        if (!locale.equals(mCurrentLocale)) {
-            mCurrentLocale = locale;
+    public void setAvailableMonths(MonthMask availableMonths) {
+        if (mController.setAvailableMonths(availableMonths)) {
+            notifyDateChanged();
         }
+    }
+
+    /**
+     * @param month The month as a month index of the picker's {@link MonthTable}.
+     * @return true if the month is inside of the min and max dates and available
+     */
+    public boolean isMonthAvailable(int month) {
+        return mController.getSelection().isAvailable(month);
+    }
 
-        mTempDate = getCalendarForLocale(mTempDate, locale);
-        mMinDate = getCalendarForLocale(mMinDate, locale);
-        mMaxDate = getCalendarForLocale(mMaxDate, locale);
-        mCurrentDate = getCalendarForLocale(mCurrentDate, locale);
+    /**
+     * @return the selection, bounds, available months and dispatch mode encoded as a few ints
+     */
+    public SimpleDatePickerState getState() {
+        MonthYearSelection selection = mController.getSelection();
+        return new SimpleDatePickerState(selection.getSelectedMonth(), selection.getMinMonth(),
+                selection.getMaxMonth(), mDispatcher.getMode(), selection.getAvailableMonths());
+    }
 
-        mNumberOfMonths = mTempDate.getActualMaximum(Calendar.MONTH) + 1;
-        mShortMonths = new DateFormatSymbols().getShortMonths();
+    /**
+     * Restores the state returned by {@link #getState()} in a single pass, keeping the locale
+     * and listener. Spinners which already match the state are not touched and the listener is
+     * not notified.
+     *
+     * @param state The state to restore.
+     */
+    public void restoreState(SimpleDatePickerState state) {
+        setDispatchMode(state.getDispatchMode());
+        mController.restore(state.getSelectedMonth(), state.getMinMonth(), state.getMaxMonth(),
+                state.getAvailableMonths());
+    }
 
-        if (usingNumericMonths()) {
-            // We're in a locale where a date should either be all-numeric, or all-text.
-            // All-text would require custom NumberPicker formatters for day and year.
-            mShortMonths = new String[mNumberOfMonths];
-            for (int i = 0; i < mNumberOfMonths; ++i) {
-                mShortMonths[i] = String.format("%d", i + 1);
-            }
-        }
+    /**
+     * Restores the default bounds and dispatch mode and drops the listener, bound selection,
+     * selection store and trace recorder, so that the view can be reused.
+     */
+    void reset() {
+        mOnDateChangedListener = null;
+        mDispatcher.cancel();
+        // a pooled picker initialized without a configuration must not keep the mode of its
+        // previous dialog
+        mDispatcher.setMode(DISPATCH_IMMEDIATE);
+        mController.setSelectionStore(null);
+        mTraceRecorder = null;
+        MonthTable table = mController.getMonthTable();
+        mController.reset(table.toIndex(DEFAULT_START_YEAR, 0), table.toIndex(DEFAULT_END_YEAR,
+                table.getMonthsInYear(DEFAULT_END_YEAR) - 1));
+    }
+
+    /**
+     * Sets how changes are dispatched to the {@link OnDateChangedListener}. When changes are
+     * coalesced or settled the listener receives the latest date only, intermediate dates are
+     * dropped.
+     *
+     * @param dispatchMode One of {@link #DISPATCH_IMMEDIATE}, {@link #DISPATCH_COALESCED} or
+     *                     {@link #DISPATCH_SETTLED}.
+     */
+    public void setDispatchMode(int dispatchMode) {
+        mDispatcher.setMode(dispatchMode);
     }
 
-    private void setDate(int year, int month) {
-        mCurrentDate.set(Calendar.YEAR, year);
-        mCurrentDate.set(Calendar.MONTH, month);
-        if (mCurrentDate.before(mMinDate)) {
-            mCurrentDate.setTimeInMillis(mMinDate.getTimeInMillis());
-        } else if (mCurrentDate.after(mMaxDate)) {
-            mCurrentDate.setTimeInMillis(mMaxDate.getTimeInMillis());
+    public int getDispatchMode() {
+        return mDispatcher.getMode();
+    }
+
+    public void setOnDateChangedListener(OnDateChangedListener onDateChangedListener) {
+        mOnDateChangedListener = onDateChangedListener;
+    }
+
+    OnDateChangedListener getOnDateChangedListener() {
+        return mOnDateChangedListener;
+    }
+
+    /**
+     * Records the value changes of the spinners, to replay them later with {@link
+     * PickerTraceReplayer}. Recording starts from the current state of the picker.
+     *
+     * @param traceRecorder The recorder, or null to stop recording.
+     */
+    public void setTraceRecorder(PickerTraceRecorder traceRecorder) {
+        if (traceRecorder != null) {
+            SimpleDatePickerState state = getState();
+            traceRecorder.start(state.getSelectedMonth(), state.getMinMonth(),
+                    state.getMaxMonth(), state.getDispatchMode(), state.getAvailableMonths());
         }
+        mTraceRecorder = traceRecorder;
     }
 
-    private void updateSpinners() {
-        // set the spinner ranges respecting the min and max dates
-        if (mCurrentDate.equals(mMinDate)) {
-            mMonthSpinner.setDisplayedValues(null);
-            mMonthSpinner.setMinValue(mCurrentDate.get(Calendar.MONTH));
-            mMonthSpinner.setMaxValue(mCurrentDate.getActualMaximum(Calendar.MONTH));
-            mMonthSpinner.setWrapSelectorWheel(false);
-        } else if (mCurrentDate.equals(mMaxDate)) {
-            mMonthSpinner.setDisplayedValues(null);
-            mMonthSpinner.setMinValue(mCurrentDate.getActualMinimum(Calendar.MONTH));
-            mMonthSpinner.setMaxValue(mCurrentDate.get(Calendar.MONTH));
-            mMonthSpinner.setWrapSelectorWheel(false);
-        } else {
-            mMonthSpinner.setDisplayedValues(null);
-            mMonthSpinner.setMinValue(0);
-            mMonthSpinner.setMaxValue(11);
-            mMonthSpinner.setWrapSelectorWheel(true);
+    /**
+     * Publishes the selection and its bounds to the store whenever they change, so that other
+     * threads can read them without locks. The picker must be the only writer of the store.
+     *
+     * @param selectionStore The store, or null to stop publishing.
+     */
+    public void setSelectionStore(SelectionStore selectionStore) {
+        mController.setSelectionStore(selectionStore);
+    }
+
+    /**
+     * Moves the selection by the number of years keeping its month, clamped to the min and max
+     * dates. Used to navigate wide year ranges without scrolling through every year.
+     *
+     * @param years The number of years to move, negative to move backwards.
+     */
+    public void stepYears(int years) {
+        if (mController.stepYears(years)) {
+            notifyDateChanged();
         }
+    }
 
-        // make sure the month names are a zero based array
-        // with the months in the month spinner
-        String[] displayedValues = Arrays.copyOfRange(
-                mShortMonths, mMonthSpinner.getMinValue(), mMonthSpinner.getMaxValue() + 1);
-        mMonthSpinner.setDisplayedValues(displayedValues);
+    /**
+     * @param decades The number of decades to move, negative to move backwards.
+     * @see #stepYears(int)
+     */
+    public void stepDecades(int decades) {
+        stepYears(decades * 10);
+    }
+
+    /**
+     * @param centuries The number of centuries to move, negative to move backwards.
+     * @see #stepYears(int)
+     */
+    public void stepCenturies(int centuries) {
+        stepYears(centuries * 100);
+    }
 
-        // year spinner range does not change based on the current date
-        mYearSpinner.setMinValue(mMinDate.get(Calendar.YEAR));
-        mYearSpinner.setMaxValue(mMaxDate.get(Calendar.YEAR));
-        mYearSpinner.setWrapSelectorWheel(false);
+    View getView() {
+        return mView;
+    }
+
+    /**
+     * @return the selected month as a month index of the picker's {@link MonthTable}.
+     */
+    public int getEpochMonth() {
+        return mController.getSelectedMonth();
+    }
+
+    public int getYear() {
+        return mController.getYear();
+    }
+
+    public int getMonth() {
+        return mController.getMonth();
+    }
+
+    /**
+     * @return the Android independent controller of the spinners
+     */
+    public MonthYearController getController() {
+        return mController;
+    }
 
-        // set the spinner values
-        mYearSpinner.setValue(mCurrentDate.get(Calendar.YEAR));
-        mMonthSpinner.setValue(mCurrentDate.get(Calendar.MONTH));
+    /**
+     * Sets the current locale.
+     *
+     * @param locale The current locale.
+     */
+    protected void setCurrentLocale(Locale locale) {
+        setCurrentLocale(locale, null, MonthTable.forLocale(locale));
     }
 
-    private boolean usingNumericMonths() {
-        return Character.isDigit(mShortMonths[Calendar.JANUARY].charAt(0));
+    /**
+     * Sets the current locale and calendar system.
+     *
+     * @param locale     The current locale.
+     * @param calendar   A calendar of the calendar system owned by the delegate, or null for the
+     *                   locale's calendar system.
+     * @param monthTable The table of the calendar system.
+     */
+    private void setCurrentLocale(Locale locale, Calendar calendar, MonthTable monthTable) {
+        PickerMetrics metrics = getMetrics();
+        long token = metrics.begin(PickerMetrics.PHASE_LOCALE_SETUP);
+        if (!locale.equals(mCurrentLocale)) {
+            mCurrentLocale = locale;
+        }
+
+        mTempDate = getCalendarForLocale(mTempDate, locale, calendar);
+        mController.setLocale(locale, monthTable);
+        metrics.end(PickerMetrics.PHASE_LOCALE_SETUP, token);
     }
 
     /**
@@ -215,16 +446,15 @@ public class SimpleDatePickerDelegate {
      *
      * @param oldCalendar The old calendar.
      * @param locale      The locale.
+     * @param calendar    The calendar to use instead of the locale's, or null.
      */
-    private Calendar getCalendarForLocale(Calendar oldCalendar, Locale locale) {
-        if (oldCalendar == null) {
-            return Calendar.getInstance(locale);
-        } else {
-            long currentTimeMillis = oldCalendar.getTimeInMillis();
-            Calendar newCalendar = Calendar.getInstance(locale);
-            newCalendar.setTimeInMillis(currentTimeMillis);
-            return newCalendar;
+    private Calendar getCalendarForLocale(Calendar oldCalendar, Locale locale,
+                                          Calendar calendar) {
+        Calendar newCalendar = calendar != null ? calendar : Calendar.getInstance(locale);
+        if (oldCalendar != null) {
+            newCalendar.setTimeInMillis(oldCalendar.getTimeInMillis());
         }
+        return newCalendar;
     }
 
     /**
@@ -232,7 +462,16 @@ public class SimpleDatePickerDelegate {
      */
     private void notifyDateChanged() {
         if (mOnDateChangedListener != null) {
+            mDispatcher.onChange();
+        }
+    }
+
+    private void dispatchDateChanged() {
+        if (mOnDateChangedListener != null) {
+            PickerMetrics metrics = getMetrics();
+            long token = metrics.begin(PickerMetrics.PHASE_DISPATCH);
             mOnDateChangedListener.onDateChanged(getYear(), getMonth());
+            metrics.end(PickerMetrics.PHASE_DISPATCH, token);
         }
     }
 
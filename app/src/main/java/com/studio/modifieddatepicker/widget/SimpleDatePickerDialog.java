@@ -1,14 +1,13 @@
 package com.studio.modifieddatepicker.widget;
 
-import android.annotation.SuppressLint;
 import android.app.AlertDialog;
 import android.content.Context;
 import android.content.DialogInterface;
 import android.os.Bundle;
-import android.view.LayoutInflater;
 import android.view.View;
 
 import com.studio.modifieddatepicker.R;
+import com.studio.modifieddatepicker.core.PickerMetrics;
 
 /**
  * A simple dialog containing month and year picker and also provides callback on positive
@@ -17,12 +16,13 @@ import com.studio.modifieddatepicker.R;
 public class SimpleDatePickerDialog extends AlertDialog implements DialogInterface
         .OnClickListener, SimpleDatePickerDelegate.OnDateChangedListener {
 
-    private static final String YEAR = "year";
-    private static final String MONTH = "month";
-
     private SimpleDatePickerDelegate mSimpleDatePickerDelegate;
+    private SimpleDatePickerViewPool mViewPool;
     private OnDateSetListener mDateSetListener;
 
+    // set when the host saves the state and rebuilds the dialog from it
+    private boolean mStateSavedByHost;
+
     /**
      * @param context The context the dialog is to run in.
      */
@@ -35,22 +35,108 @@ public class SimpleDatePickerDialog extends AlertDialog implements DialogInterfa
      * @param context The context the dialog is to run in.
      * @param theme   the theme to apply to this dialog
      */
-    @SuppressLint("InflateParams")
     public SimpleDatePickerDialog(Context context, int theme, OnDateSetListener listener, int year,
                                   int monthOfYear) {
+        this(context, theme, null, R.layout.month_year_picker, null, listener, year, monthOfYear);
+    }
+
+    /**
+     * Creates a dialog configuring its picker once with the configuration.
+     *
+     * @param context The context the dialog is to run in.
+     * @param theme   the theme to apply to this dialog
+     * @param config  The configuration of the picker.
+     */
+    public SimpleDatePickerDialog(Context context, int theme, SimpleDatePickerConfig config,
+                                  OnDateSetListener listener) {
+        this(context, theme, R.layout.month_year_picker, config, listener);
+    }
+
+    /**
+     * Creates a dialog inflating the given picker layout, configuring its picker once with the
+     * configuration. Pass {@code R.layout.month_year_wheel_picker} to draw the picker as a single
+     * {@link MonthYearWheelView} instead of two spinners.
+     *
+     * @param context  The context the dialog is to run in.
+     * @param theme    the theme to apply to this dialog
+     * @param layoutId The picker layout, see {@link SimpleDatePickerDelegate}.
+     * @param config   The configuration of the picker.
+     */
+    public SimpleDatePickerDialog(Context context, int theme, int layoutId,
+                                  SimpleDatePickerConfig config, OnDateSetListener listener) {
+        this(context, theme, null, layoutId, config, listener, 0, 0);
+    }
+
+    /**
+     * Creates a dialog showing a view taken from the pool. The view is returned to the pool when
+     * the dialog is dismissed, so the dialog should not be shown again afterwards.
+     *
+     * @param context  The context the dialog is to run in.
+     * @param theme    the theme to apply to this dialog
+     * @param viewPool The pool to take the picker view from.
+     */
+    public SimpleDatePickerDialog(Context context, int theme, SimpleDatePickerViewPool viewPool,
+                                  OnDateSetListener listener, int year, int monthOfYear) {
+        this(context, theme, viewPool, 0, null, listener, year, monthOfYear);
+    }
+
+    /**
+     * Creates a dialog showing a view taken from the pool, configured once with the
+     * configuration. The view is returned to the pool when the dialog is dismissed, so the
+     * dialog should not be shown again afterwards.
+     *
+     * @param context  The context the dialog is to run in.
+     * @param theme    the theme to apply to this dialog
+     * @param viewPool The pool to take the picker view from.
+     * @param config   The configuration of the picker.
+     */
+    public SimpleDatePickerDialog(Context context, int theme, SimpleDatePickerViewPool viewPool,
+                                  SimpleDatePickerConfig config, OnDateSetListener listener) {
+        this(context, theme, viewPool, 0, config, listener, 0, 0);
+    }
+
+    /**
+     * Takes the picker from the pool or inflates the layout, then configures it with the
+     * configuration, or initializes it with the year and month if there is none.
+     */
+    private SimpleDatePickerDialog(Context context, int theme, SimpleDatePickerViewPool viewPool,
+                                   int layoutId, SimpleDatePickerConfig config,
+                                   OnDateSetListener listener, int year, int monthOfYear) {
         super(context, theme);
+        PickerMetrics metrics = SimpleDatePickerDelegate.getMetrics();
+        long token = metrics.begin(PickerMetrics.PHASE_DIALOG_CREATE);
 
         mDateSetListener = listener;
+        mViewPool = viewPool;
 
         Context themeContext = getContext();
-        LayoutInflater inflater = LayoutInflater.from(themeContext);
-        View view = inflater.inflate(R.layout.month_year_picker, null);
-        setView(view);
+        if (viewPool != null) {
+            mSimpleDatePickerDelegate = viewPool.acquire();
+            if (config != null) {
+                mSimpleDatePickerDelegate.apply(config);
+            }
+        } else {
+            View view = SimpleDatePickerDelegate.inflate(themeContext, layoutId);
+            mSimpleDatePickerDelegate = config != null
+                    ? new SimpleDatePickerDelegate(view, config)
+                    : new SimpleDatePickerDelegate(view);
+        }
+        if (config == null) {
+            mSimpleDatePickerDelegate.init(year, monthOfYear, this);
+        }
+        setView(mSimpleDatePickerDelegate.getView());
         setButton(BUTTON_POSITIVE, themeContext.getString(android.R.string.ok), this);
         setButton(BUTTON_NEGATIVE, themeContext.getString(android.R.string.cancel), this);
+        metrics.end(PickerMetrics.PHASE_DIALOG_CREATE, token);
+    }
 
-        mSimpleDatePickerDelegate = new SimpleDatePickerDelegate(view);
-        mSimpleDatePickerDelegate.init(year, monthOfYear, this);
+    @Override
+    protected void onStop() {
+        super.onStop();
+        if (mViewPool != null) {
+            mViewPool.release(mSimpleDatePickerDelegate);
+            mViewPool = null;
+        }
     }
 
     @Override
@@ -77,17 +163,36 @@ public class SimpleDatePickerDialog extends AlertDialog implements DialogInterfa
     @Override
     public Bundle onSaveInstanceState() {
         Bundle state = super.onSaveInstanceState();
-        state.putInt(YEAR, mSimpleDatePickerDelegate.getYear());
-        state.putInt(MONTH, mSimpleDatePickerDelegate.getMonth());
+        if (!mStateSavedByHost) {
+            getState().writeToBundle(state);
+        }
         return state;
     }
 
     @Override
     public void onRestoreInstanceState(Bundle savedInstanceState) {
         super.onRestoreInstanceState(savedInstanceState);
-        int year = savedInstanceState.getInt(YEAR);
-        int month = savedInstanceState.getInt(MONTH);
-        mSimpleDatePickerDelegate.init(year, month, this);
+        SimpleDatePickerState state = SimpleDatePickerState.readFromBundle(savedInstanceState);
+        if (state != null) {
+            mSimpleDatePickerDelegate.restoreState(state);
+        }
+    }
+
+    /**
+     * Leaves saving the state of the picker to the host, which rebuilds the dialog from {@link
+     * #getState()}, so that the state is neither saved nor restored by the dialog as well.
+     *
+     * @param stateSavedByHost true if the host saves the state.
+     */
+    void setStateSavedByHost(boolean stateSavedByHost) {
+        mStateSavedByHost = stateSavedByHost;
+    }
+
+    /**
+     * @return the state of the picker, to rebuild the dialog from after a configuration change
+     */
+    public SimpleDatePickerState getState() {
+        return mSimpleDatePickerDelegate.getState();
     }
 
     public void setMinDate(long minDate) {
@@ -98,6 +203,14 @@ public class SimpleDatePickerDialog extends AlertDialog implements DialogInterfa
         mSimpleDatePickerDelegate.setMaxDate(maxDate);
     }
 
+    public void setMinMonth(int minMonth) {
+        mSimpleDatePickerDelegate.setMinMonth(minMonth);
+    }
+
+    public void setMaxMonth(int maxMonth) {
+        mSimpleDatePickerDelegate.setMaxMonth(maxMonth);
+    }
+
     /**
      * The callback used to indicate the user is done filling in the date.
      */
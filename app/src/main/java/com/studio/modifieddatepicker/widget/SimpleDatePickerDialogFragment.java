@@ -5,7 +5,10 @@ import android.os.Bundle;
 import android.support.annotation.NonNull;
 import android.support.v4.app.DialogFragment;
 
+import com.studio.modifieddatepicker.utils.MonthTable;
+
 import java.util.Calendar;
+import java.util.Locale;
 
 /**
  * DialogFragment for displaying a simple date (month and year) picker.
@@ -15,8 +18,9 @@ public class SimpleDatePickerDialogFragment extends DialogFragment {
     public static final int NULL_INT = -1;
     private static final String ARG_MONTH = "month";
     private static final String ARG_YEAR = "year";
-    private static final String ARG_MIN_DATE = "min_date";
-    private static final String ARG_MAX_DATE = "max_date";
+    private static final String ARG_MIN_MONTH = "min_month";
+    private static final String ARG_MAX_MONTH = "max_month";
+    private static final String ARG_CALENDAR = "calendar";
 
     private SimpleDatePickerDialog.OnDateSetListener mOnDateSetListener;
 
@@ -46,13 +50,86 @@ public class SimpleDatePickerDialogFragment extends DialogFragment {
      */
     public static SimpleDatePickerDialogFragment getInstance(int year, int month, long minDate,
                                                              long maxDate) {
+        return getInstance(year, month, minDate, maxDate, null);
+    }
+
+    /**
+     * Create a new instance of the DialogFragment picking months of a calendar system other than
+     * the default locale's
+     *
+     * @param year     the initial year
+     * @param month    the initial month
+     * @param minDate  set the min date in milliseconds which should be less then initial date
+     *                 set, or {@link #NULL_INT}.
+     * @param maxDate  set the max date in milliseconds which should not be less then current
+     *                 date, or {@link #NULL_INT}.
+     * @param calendar the calendar of the calendar system, or null for the default locale's.
+     * @return the fragment instance
+     */
+    public static SimpleDatePickerDialogFragment getInstance(int year, int month, long minDate,
+                                                             long maxDate, Calendar calendar) {
+        Calendar tempDate = calendar != null
+                ? (Calendar) calendar.clone() : Calendar.getInstance();
+        MonthTable table = getMonthTable(calendar);
+        int minMonth = NULL_INT;
+        if (minDate != NULL_INT) {
+            tempDate.setTimeInMillis(minDate);
+            minMonth = table.toIndex(tempDate.get(Calendar.YEAR), tempDate.get(Calendar.MONTH));
+        }
+        int maxMonth = NULL_INT;
+        if (maxDate != NULL_INT) {
+            tempDate.setTimeInMillis(maxDate);
+            maxMonth = table.toIndex(tempDate.get(Calendar.YEAR), tempDate.get(Calendar.MONTH));
+        }
+        return getInstanceWithMonthBounds(year, month, minMonth, maxMonth, calendar);
+    }
+
+    /**
+     * Create a new instance of the DialogFragment
+     *
+     * @param year     the initial year
+     * @param month    the initial month
+     * @param minMonth set the min month as a month index of the default locale's
+     *                 {@link MonthTable}, which should not be greater than the initial month, or
+     *                 {@link #NULL_INT}.
+     * @param maxMonth set the max month as a month index of the default locale's
+     *                 {@link MonthTable}, which should not be less than the initial month, or
+     *                 {@link #NULL_INT}.
+     * @return the fragment instance
+     */
+    public static SimpleDatePickerDialogFragment getInstanceWithMonthBounds(int year, int month,
+                                                                            int minMonth,
+                                                                            int maxMonth) {
+        return getInstanceWithMonthBounds(year, month, minMonth, maxMonth, null);
+    }
+
+    /**
+     * Create a new instance of the DialogFragment picking months of a calendar system other than
+     * the default locale's
+     *
+     * @param year     the initial year
+     * @param month    the initial month
+     * @param minMonth set the min month as a month index of the calendar's {@link MonthTable},
+     *                 or {@link #NULL_INT}.
+     * @param maxMonth set the max month as a month index of the calendar's {@link MonthTable},
+     *                 or {@link #NULL_INT}.
+     * @param calendar the calendar of the calendar system, or null for the default locale's.
+     * @return the fragment instance
+     */
+    public static SimpleDatePickerDialogFragment getInstanceWithMonthBounds(int year, int month,
+                                                                            int minMonth,
+                                                                            int maxMonth,
+                                                                            Calendar calendar) {
         SimpleDatePickerDialogFragment datePickerDialogFragment = new
                 SimpleDatePickerDialogFragment();
         Bundle bundle = new Bundle();
         bundle.putInt(ARG_MONTH, month);
         bundle.putInt(ARG_YEAR, year);
-        bundle.putLong(ARG_MIN_DATE, minDate);
-        bundle.putLong(ARG_MAX_DATE, maxDate);
+        bundle.putInt(ARG_MIN_MONTH, minMonth);
+        bundle.putInt(ARG_MAX_MONTH, maxMonth);
+        if (calendar != null) {
+            bundle.putSerializable(ARG_CALENDAR, (Calendar) calendar.clone());
+        }
         datePickerDialogFragment.setArguments(bundle);
         return datePickerDialogFragment;
     }
@@ -66,43 +143,68 @@ public class SimpleDatePickerDialogFragment extends DialogFragment {
         mOnDateSetListener = onDateSetListener;
     }
 
+    @Override
+    public void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        SimpleDatePickerDialog dialog = (SimpleDatePickerDialog) getDialog();
+        if (dialog != null) {
+            dialog.getState().writeToBundle(outState);
+        }
+    }
+
     @NonNull
     @Override
     public Dialog onCreateDialog(Bundle savedInstanceState) {
+        SimpleDatePickerDialog dialog = createDialog(savedInstanceState);
+        // the state is saved by onSaveInstanceState only and applied here in one pass
+        dialog.setStateSavedByHost(true);
+        return dialog;
+    }
+
+    private SimpleDatePickerDialog createDialog(Bundle savedInstanceState) {
         Bundle dataBundle = getArguments();
+        Calendar calendar = (Calendar) dataBundle.getSerializable(ARG_CALENDAR);
+        SimpleDatePickerState state = savedInstanceState != null
+                ? SimpleDatePickerState.readFromBundle(savedInstanceState) : null;
+        if (state != null) {
+            return new SimpleDatePickerDialog(getActivity(), 0,
+                    state.toConfigBuilder().setCalendar(calendar).build(), mOnDateSetListener);
+        }
+
         int year = dataBundle.getInt(ARG_YEAR);
         int month = dataBundle.getInt(ARG_MONTH);
-        long minDate = dataBundle.getLong(ARG_MIN_DATE);
-        long maxDate = dataBundle.getLong(ARG_MAX_DATE);
-        checkForValidMinDate(year, month, minDate);
-        checkForValidMaxDate(year, month, maxDate);
-        SimpleDatePickerDialog simpleDatePickerDialog = new SimpleDatePickerDialog(
-                getActivity(), mOnDateSetListener, year, month);
-        if (minDate != NULL_INT) {
-            simpleDatePickerDialog.setMinDate(minDate);
+        int minMonth = dataBundle.getInt(ARG_MIN_MONTH, NULL_INT);
+        int maxMonth = dataBundle.getInt(ARG_MAX_MONTH, NULL_INT);
+        int initialMonth = getMonthTable(calendar).toIndex(year, month);
+        checkForValidMinMonth(initialMonth, minMonth);
+        checkForValidMaxMonth(initialMonth, maxMonth);
+        SimpleDatePickerConfig.Builder builder = new SimpleDatePickerConfig.Builder()
+                .setCalendar(calendar)
+                .setSelection(year, month);
+        if (minMonth != NULL_INT) {
+            builder.setMinMonth(minMonth);
         }
-        if (maxDate != NULL_INT) {
-            simpleDatePickerDialog.setMaxDate(maxDate);
+        if (maxMonth != NULL_INT) {
+            builder.setMaxMonth(maxMonth);
         }
-        return simpleDatePickerDialog;
+        return new SimpleDatePickerDialog(getActivity(), 0, builder.build(), mOnDateSetListener);
+    }
+
+    private static MonthTable getMonthTable(Calendar calendar) {
+        return calendar != null ? MonthTable.forCalendar((Calendar) calendar.clone())
+                : MonthTable.forLocale(Locale.getDefault());
     }
 
-    private void checkForValidMinDate(int year, int month, long minDate) {
-        Calendar c = Calendar.getInstance();
-        c.add(Calendar.YEAR, year);
-        c.add(Calendar.MONTH, month);
-        if (c.getTimeInMillis() < minDate) {
+    private void checkForValidMinMonth(int initialMonth, int minMonth) {
+        if (minMonth != NULL_INT && initialMonth < minMonth) {
             throw new IllegalArgumentException("The min date should be less than initial date set");
         }
     }
 
-    private void checkForValidMaxDate(int year, int month, long maxDate) {
-        Calendar c = Calendar.getInstance();
-        c.add(Calendar.YEAR, year);
-        c.add(Calendar.MONTH, month);
-        if (c.getTimeInMillis() < maxDate) {
+    private void checkForValidMaxMonth(int initialMonth, int maxMonth) {
+        if (maxMonth != NULL_INT && initialMonth > maxMonth) {
             throw new IllegalArgumentException(
-                    "The max date should not be less than current date.");
+                    "The max date should not be less than initial date set.");
         }
     }
 }
@@ -0,0 +1,110 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.os.Bundle;
+
+import com.studio.modifieddatepicker.utils.MonthMask;
+
+/**
+ * The state of a {@link SimpleDatePickerDelegate} encoded as a few ints, cheap to keep across
+ * configuration changes and small enough to save for process death. Locale symbols and labels are
+ * not part of the state, they are shared process-wide and reused by the rebuilt picker.
+ */
+public final class SimpleDatePickerState {
+
+    private static final String KEY_STATE = "simple_date_picker_state";
+    private static final String KEY_AVAILABLE_MONTHS = "simple_date_picker_available_months";
+
+    private static final int INDEX_SELECTED_MONTH = 0;
+    private static final int INDEX_MIN_MONTH = 1;
+    private static final int INDEX_MAX_MONTH = 2;
+    private static final int INDEX_DISPATCH_MODE = 3;
+    private static final int INDEX_MASK_FIRST_MONTH = 4;
+    private static final int INDEX_MASK_LAST_MONTH = 5;
+    private static final int STATE_LENGTH = 6;
+
+    private final int[] mState;
+    private final long[] mMaskWords;
+
+    SimpleDatePickerState(int selectedMonth, int minMonth, int maxMonth, int dispatchMode,
+                          MonthMask availableMonths) {
+        mState = new int[STATE_LENGTH];
+        mState[INDEX_SELECTED_MONTH] = selectedMonth;
+        mState[INDEX_MIN_MONTH] = minMonth;
+        mState[INDEX_MAX_MONTH] = maxMonth;
+        mState[INDEX_DISPATCH_MODE] = dispatchMode;
+        if (availableMonths != null) {
+            mState[INDEX_MASK_FIRST_MONTH] = availableMonths.getFirstMonth();
+            mState[INDEX_MASK_LAST_MONTH] = availableMonths.getLastMonth();
+            mMaskWords = availableMonths.toWords();
+        } else {
+            mMaskWords = null;
+        }
+    }
+
+    private SimpleDatePickerState(int[] state, long[] maskWords) {
+        mState = state;
+        mMaskWords = maskWords;
+    }
+
+    /**
+     * Reads the state written by {@link #writeToBundle(Bundle)}.
+     *
+     * @param bundle The bundle to read from.
+     * @return the state, or null if the bundle holds no state
+     */
+    public static SimpleDatePickerState readFromBundle(Bundle bundle) {
+        int[] state = bundle.getIntArray(KEY_STATE);
+        if (state == null || state.length != STATE_LENGTH) {
+            return null;
+        }
+        return new SimpleDatePickerState(state, bundle.getLongArray(KEY_AVAILABLE_MONTHS));
+    }
+
+    public void writeToBundle(Bundle bundle) {
+        bundle.putIntArray(KEY_STATE, mState);
+        if (mMaskWords != null) {
+            bundle.putLongArray(KEY_AVAILABLE_MONTHS, mMaskWords);
+        }
+    }
+
+    public int getSelectedMonth() {
+        return mState[INDEX_SELECTED_MONTH];
+    }
+
+    public int getMinMonth() {
+        return mState[INDEX_MIN_MONTH];
+    }
+
+    public int getMaxMonth() {
+        return mState[INDEX_MAX_MONTH];
+    }
+
+    public int getDispatchMode() {
+        return mState[INDEX_DISPATCH_MODE];
+    }
+
+    /**
+     * @return a new mask of the available months, or null if every month is available
+     */
+    public MonthMask getAvailableMonths() {
+        if (mMaskWords == null) {
+            return null;
+        }
+        return new MonthMask(mState[INDEX_MASK_FIRST_MONTH], mState[INDEX_MASK_LAST_MONTH],
+                mMaskWords);
+    }
+
+    /**
+     * Creates a builder of a configuration holding the state, to rebuild a picker in one pass.
+     *
+     * @return the builder
+     */
+    public SimpleDatePickerConfig.Builder toConfigBuilder() {
+        return new SimpleDatePickerConfig.Builder()
+                .setMinMonth(getMinMonth())
+                .setMaxMonth(getMaxMonth())
+                .setSelectedMonth(getSelectedMonth())
+                .setAvailableMonths(getAvailableMonths())
+                .setDispatchMode(getDispatchMode());
+    }
+}
@@ -0,0 +1,67 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.content.Context;
+import android.util.AttributeSet;
+import android.view.LayoutInflater;
+import android.widget.FrameLayout;
+
+import com.studio.modifieddatepicker.R;
+import com.studio.modifieddatepicker.core.MonthYearSelection;
+
+/**
+ * An inline month and year picker to embed in layouts and list rows, without a dialog. The
+ * picker is created once per view and rebound to the {@link MonthYearSelection} of a row with
+ * {@link #bind(MonthYearSelection)}, the locale symbols, labels and paints are shared by all
+ * pickers. By default it shows a {@link MonthYearWheelView}.
+ */
+public class SimpleDatePickerView extends FrameLayout {
+
+    private final SimpleDatePickerDelegate mDelegate;
+
+    public SimpleDatePickerView(Context context) {
+        this(context, (AttributeSet) null);
+    }
+
+    public SimpleDatePickerView(Context context, AttributeSet attrs) {
+        this(context, R.layout.month_year_wheel_picker, attrs);
+    }
+
+    /**
+     * @param context  The context the view is running in.
+     * @param layoutId The picker layout, see {@link SimpleDatePickerDelegate}.
+     */
+    public SimpleDatePickerView(Context context, int layoutId) {
+        this(context, layoutId, null);
+    }
+
+    private SimpleDatePickerView(Context context, int layoutId, AttributeSet attrs) {
+        super(context, attrs);
+        LayoutInflater.from(context).inflate(layoutId, this, true);
+        mDelegate = new SimpleDatePickerDelegate(this);
+    }
+
+    /**
+     * Binds the picker to a selection, typically from {@code onBindViewHolder}.
+     *
+     * @param selection The selection, or null to unbind.
+     * @see SimpleDatePickerDelegate#bind(MonthYearSelection)
+     */
+    public void bind(MonthYearSelection selection) {
+        mDelegate.bind(selection);
+    }
+
+    /**
+     * @param onDateChangedListener The listener of the changes of every bound selection, or null.
+     */
+    public void setOnDateChangedListener(
+            SimpleDatePickerDelegate.OnDateChangedListener onDateChangedListener) {
+        mDelegate.setOnDateChangedListener(onDateChangedListener);
+    }
+
+    /**
+     * @return the delegate, to set the dispatch mode or read the selection
+     */
+    public SimpleDatePickerDelegate getDelegate() {
+        return mDelegate;
+    }
+}
@@ -0,0 +1,127 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.content.Context;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.studio.modifieddatepicker.R;
+
+import java.util.ArrayDeque;
+
+/**
+ * A pool of inflated and configured picker views, so that {@link SimpleDatePickerDialog} can be
+ * shown without inflating its layout. The pool is filled one view at a time whenever the main
+ * thread is idle and must only be used from the main thread.
+ */
+public class SimpleDatePickerViewPool {
+
+    private final Context mContext;
+    private final int mCapacity;
+    private final int mLayoutId;
+    private final ArrayDeque<SimpleDatePickerDelegate> mDelegates;
+
+    private boolean mFillScheduled;
+
+    private final MessageQueue.IdleHandler mFillHandler = new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+            if (mDelegates.size() < mCapacity) {
+                mDelegates.push(inflate());
+            }
+            mFillScheduled = mDelegates.size() < mCapacity;
+            return mFillScheduled;
+        }
+    };
+
+    /**
+     * @param context  The context the views are inflated with, should be themed the same as the
+     *                 dialogs using the pool.
+     * @param capacity The maximal number of views kept in the pool.
+     */
+    public SimpleDatePickerViewPool(Context context, int capacity) {
+        this(context, capacity, R.layout.month_year_picker);
+    }
+
+    /**
+     * @param context  The context the views are inflated with, should be themed the same as the
+     *                 dialogs using the pool.
+     * @param capacity The maximal number of views kept in the pool.
+     * @param layoutId The picker layout, see {@link SimpleDatePickerDelegate}.
+     */
+    public SimpleDatePickerViewPool(Context context, int capacity, int layoutId) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity should be greater than zero.");
+        }
+        mContext = context;
+        mCapacity = capacity;
+        mLayoutId = layoutId;
+        mDelegates = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Schedules the pool to be filled up during the idle time of the main thread.
+     */
+    public void prefill() {
+        checkMainThread();
+        if (!mFillScheduled && mDelegates.size() < mCapacity) {
+            mFillScheduled = true;
+            Looper.myQueue().addIdleHandler(mFillHandler);
+        }
+    }
+
+    /**
+     * Drops the pooled views and stops filling the pool.
+     */
+    public void clear() {
+        checkMainThread();
+        if (mFillScheduled) {
+            Looper.myQueue().removeIdleHandler(mFillHandler);
+            mFillScheduled = false;
+        }
+        mDelegates.clear();
+    }
+
+    /**
+     * Takes a view from the pool, inflating one only if the pool is empty.
+     *
+     * @return the delegate of the view
+     */
+    SimpleDatePickerDelegate acquire() {
+        checkMainThread();
+        SimpleDatePickerDelegate delegate = mDelegates.poll();
+        if (delegate == null) {
+            delegate = inflate();
+        }
+        prefill();
+        return delegate;
+    }
+
+    /**
+     * Returns a view to the pool after detaching it from its dialog.
+     *
+     * @param delegate The delegate of the view.
+     */
+    void release(SimpleDatePickerDelegate delegate) {
+        checkMainThread();
+        View view = delegate.getView();
+        if (view.getParent() instanceof ViewGroup) {
+            ((ViewGroup) view.getParent()).removeView(view);
+        }
+        if (mDelegates.size() < mCapacity) {
+            delegate.reset();
+            mDelegates.push(delegate);
+        }
+    }
+
+    private SimpleDatePickerDelegate inflate() {
+        return new SimpleDatePickerDelegate(SimpleDatePickerDelegate.inflate(mContext, mLayoutId));
+    }
+
+    private static void checkMainThread() {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            throw new IllegalStateException("The pool should only be used from the main thread.");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.view.View;
+
+import com.studio.modifieddatepicker.R;
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+/**
+ * A delegate selecting a range of months with a start and an end picker in one layout, the
+ * layout includes two picker layouts with the ids {@code start} and {@code end}. The end cannot
+ * be before the start, the min month of the end picker follows the start picker through the
+ * incremental update of {@link SimpleDatePickerDelegate#setMinMonth(int)}.
+ */
+public class SimpleDateRangePickerDelegate {
+
+    private final View mView;
+    private final SimpleDatePickerDelegate mStartDelegate;
+    private final SimpleDatePickerDelegate mEndDelegate;
+    private final MonthTable mMonthTable;
+
+    /**
+     * @param parent   The view containing the start and end pickers.
+     * @param config   The configuration of the start picker, its locale, calendar system, bounds
+     *                 and available months also apply to the end picker. Its listener and
+     *                 dispatch mode are not used, the start picker updates the end picker on
+     *                 every change.
+     * @param endMonth The initial end month as a month index of the picker's {@link
+     *                 MonthTable}, clamped to the start and the max month.
+     */
+    public SimpleDateRangePickerDelegate(View parent, SimpleDatePickerConfig config,
+                                         int endMonth) {
+        mView = parent;
+        mMonthTable = config.getMonthTable();
+
+        mStartDelegate = new SimpleDatePickerDelegate(parent.findViewById(R.id.start), config);
+        mStartDelegate.setDispatchMode(SimpleDatePickerDelegate.DISPATCH_IMMEDIATE);
+        mEndDelegate = new SimpleDatePickerDelegate(parent.findViewById(R.id.end),
+                new SimpleDatePickerConfig.Builder()
+                        .setLocale(config.getLocale())
+                        .setCalendar(config.getCalendar())
+                        .setMinMonth(config.getSelectedMonth())
+                        .setMaxMonth(config.getMaxMonth())
+                        .setSelectedMonth(endMonth)
+                        .setAvailableMonths(config.getAvailableMonths())
+                        .build());
+
+        mStartDelegate.setOnDateChangedListener(
+                new SimpleDatePickerDelegate.OnDateChangedListener() {
+                    @Override
+                    public void onDateChanged(int year, int monthOfYear) {
+                        mEndDelegate.setMinMonth(mStartDelegate.getEpochMonth());
+                    }
+                });
+    }
+
+    /**
+     * @return the start month as a month index of the picker's {@link MonthTable}
+     */
+    public int getStartMonth() {
+        return mStartDelegate.getEpochMonth();
+    }
+
+    /**
+     * @return the end month as a month index of the picker's {@link MonthTable}
+     */
+    public int getEndMonth() {
+        return mEndDelegate.getEpochMonth();
+    }
+
+    /**
+     * @return the number of months of the range, counting both the start and the end month
+     */
+    public int getSpanMonths() {
+        return mMonthTable.monthsBetween(getStartMonth(), getEndMonth()) + 1;
+    }
+
+    public SimpleDatePickerDelegate getStartDelegate() {
+        return mStartDelegate;
+    }
+
+    public SimpleDatePickerDelegate getEndDelegate() {
+        return mEndDelegate;
+    }
+
+    /**
+     * Restores the states returned by {@link SimpleDatePickerDelegate#getState()} of the start
+     * and end pickers.
+     *
+     * @param startState The state of the start picker.
+     * @param endState   The state of the end picker.
+     */
+    public void restoreState(SimpleDatePickerState startState, SimpleDatePickerState endState) {
+        mStartDelegate.restoreState(startState);
+        mEndDelegate.restoreState(endState);
+        mEndDelegate.setMinMonth(mStartDelegate.getEpochMonth());
+    }
+
+    View getView() {
+        return mView;
+    }
+}
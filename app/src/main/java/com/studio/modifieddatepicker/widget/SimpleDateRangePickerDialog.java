@@ -0,0 +1,113 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.app.AlertDialog;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.os.Bundle;
+import android.view.View;
+
+import com.studio.modifieddatepicker.R;
+import com.studio.modifieddatepicker.core.PickerMetrics;
+
+/**
+ * A dialog containing a start and an end month and year picker, selecting a range of months in
+ * a single dialog, and provides callback on positive selection.
+ */
+public class SimpleDateRangePickerDialog extends AlertDialog implements DialogInterface
+        .OnClickListener {
+
+    private static final String KEY_START = "simple_date_range_picker_start";
+    private static final String KEY_END = "simple_date_range_picker_end";
+
+    private final SimpleDateRangePickerDelegate mRangePickerDelegate;
+    private final OnRangeSetListener mRangeSetListener;
+
+    /**
+     * @param context  The context the dialog is to run in.
+     * @param theme    the theme to apply to this dialog
+     * @param config   The configuration of the start picker, see {@link
+     *                 SimpleDateRangePickerDelegate}.
+     * @param endMonth The initial end month.
+     */
+    public SimpleDateRangePickerDialog(Context context, int theme, SimpleDatePickerConfig config,
+                                       int endMonth, OnRangeSetListener listener) {
+        super(context, theme);
+        PickerMetrics metrics = SimpleDatePickerDelegate.getMetrics();
+        long token = metrics.begin(PickerMetrics.PHASE_DIALOG_CREATE);
+
+        mRangeSetListener = listener;
+
+        Context themeContext = getContext();
+        View view = SimpleDatePickerDelegate.inflate(themeContext,
+                R.layout.month_year_range_picker);
+        setView(view);
+        setButton(BUTTON_POSITIVE, themeContext.getString(android.R.string.ok), this);
+        setButton(BUTTON_NEGATIVE, themeContext.getString(android.R.string.cancel), this);
+
+        mRangePickerDelegate = new SimpleDateRangePickerDelegate(view, config, endMonth);
+        metrics.end(PickerMetrics.PHASE_DIALOG_CREATE, token);
+    }
+
+    @Override
+    public void onClick(DialogInterface dialog, int which) {
+        switch (which) {
+            case BUTTON_POSITIVE:
+                if (mRangeSetListener != null) {
+                    SimpleDatePickerDelegate start = mRangePickerDelegate.getStartDelegate();
+                    SimpleDatePickerDelegate end = mRangePickerDelegate.getEndDelegate();
+                    mRangeSetListener.onRangeSet(start.getYear(), start.getMonth(),
+                            end.getYear(), end.getMonth(), mRangePickerDelegate.getSpanMonths());
+                }
+                break;
+            case BUTTON_NEGATIVE:
+                cancel();
+                break;
+        }
+    }
+
+    @Override
+    public Bundle onSaveInstanceState() {
+        Bundle state = super.onSaveInstanceState();
+        Bundle startState = new Bundle();
+        mRangePickerDelegate.getStartDelegate().getState().writeToBundle(startState);
+        state.putBundle(KEY_START, startState);
+        Bundle endState = new Bundle();
+        mRangePickerDelegate.getEndDelegate().getState().writeToBundle(endState);
+        state.putBundle(KEY_END, endState);
+        return state;
+    }
+
+    @Override
+    public void onRestoreInstanceState(Bundle savedInstanceState) {
+        super.onRestoreInstanceState(savedInstanceState);
+        Bundle startBundle = savedInstanceState.getBundle(KEY_START);
+        Bundle endBundle = savedInstanceState.getBundle(KEY_END);
+        if (startBundle == null || endBundle == null) {
+            return;
+        }
+        SimpleDatePickerState startState = SimpleDatePickerState.readFromBundle(startBundle);
+        SimpleDatePickerState endState = SimpleDatePickerState.readFromBundle(endBundle);
+        if (startState != null && endState != null) {
+            mRangePickerDelegate.restoreState(startState, endState);
+        }
+    }
+
+    /**
+     * The callback used to indicate the user is done selecting the range.
+     */
+    public interface OnRangeSetListener {
+
+        /**
+         * @param startYear  The year of the start.
+         * @param startMonth The month of the start (0-11) for compatibility with {@link
+         *                   java.util.Calendar}.
+         * @param endYear    The year of the end, not before the start.
+         * @param endMonth   The month of the end (0-11) for compatibility with {@link
+         *                   java.util.Calendar}.
+         * @param spanMonths The number of months of the range, counting both the start and the
+         *                   end month.
+         */
+        void onRangeSet(int startYear, int startMonth, int endYear, int endMonth,
+                        int spanMonths);
+    }
+}
@@ -0,0 +1,137 @@
+package com.studio.modifieddatepicker.widget;
+
+import android.graphics.Paint;
+
+import com.studio.modifieddatepicker.utils.YearLabels;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The paints and measured labels of {@link MonthYearWheelView}, shared by all wheels with the same
+ * text color and size so that binding a wheel in a list allocates nothing. Labels are measured
+ * per shared label array of {@link com.studio.modifieddatepicker.utils.MonthSymbols} and per
+ * shared {@link YearLabels}. Must only be used from the main thread.
+ */
+final class WheelStyle {
+
+    private static final int MAX_CACHED_STYLES = 4;
+    private static final int MAX_CACHED_LABEL_ARRAYS = 256;
+
+    private static final Map<Long, WheelStyle> sStyles =
+            new LinkedHashMap<Long, WheelStyle>(MAX_CACHED_STYLES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, WheelStyle> eldest) {
+                    return size() > MAX_CACHED_STYLES;
+                }
+            };
+
+    private final Paint mTextPaint;
+    private final Paint mDividerPaint;
+    private final float mBaselineOffset;
+    private final float mMaxDigitWidth;
+
+    private final Map<String[], float[]> mLabelWidths = new IdentityHashMap<>();
+    private final Map<YearLabels, float[][]> mYearWidths = new IdentityHashMap<>();
+
+    private WheelStyle(int textColor, float textSize, int disabledAlpha) {
+        mTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mTextPaint.setTextSize(textSize);
+        mTextPaint.setColor(textColor);
+        mTextPaint.setTextAlign(Paint.Align.LEFT);
+        mBaselineOffset = -(mTextPaint.ascent() + mTextPaint.descent()) / 2;
+
+        float maxDigitWidth = 0;
+        for (char digit = '0'; digit <= '9'; digit++) {
+            maxDigitWidth = Math.max(maxDigitWidth,
+                    mTextPaint.measureText(String.valueOf(digit)));
+        }
+        mMaxDigitWidth = maxDigitWidth;
+
+        mDividerPaint = new Paint();
+        mDividerPaint.setColor(textColor);
+        mDividerPaint.setAlpha(disabledAlpha);
+    }
+
+    /**
+     * Gets the shared style, creating it if it is not cached.
+     *
+     * @param textColor     The color of the labels and dividers.
+     * @param textSize      The text size in pixels.
+     * @param disabledAlpha The alpha of the dividers.
+     * @return the style
+     */
+    static WheelStyle get(int textColor, float textSize, int disabledAlpha) {
+        long key = ((long) textColor << 32) | (Float.floatToIntBits(textSize) & 0xffffffffL);
+        WheelStyle style = sStyles.get(key);
+        if (style == null) {
+            style = new WheelStyle(textColor, textSize, disabledAlpha);
+            sStyles.put(key, style);
+        }
+        return style;
+    }
+
+    /**
+     * @return the paint of the labels, its alpha is set by every label drawn
+     */
+    Paint getTextPaint() {
+        return mTextPaint;
+    }
+
+    Paint getDividerPaint() {
+        return mDividerPaint;
+    }
+
+    /**
+     * @return the distance from the center of a label to its baseline
+     */
+    float getBaselineOffset() {
+        return mBaselineOffset;
+    }
+
+    float getMaxDigitWidth() {
+        return mMaxDigitWidth;
+    }
+
+    /**
+     * Gets the widths of the labels, measured once per label array.
+     *
+     * @param labels The labels, expected to be shared arrays.
+     * @return the widths of the labels in pixels, must not be modified
+     */
+    float[] getLabelWidths(String[] labels) {
+        float[] widths = mLabelWidths.get(labels);
+        if (widths == null) {
+            if (mLabelWidths.size() >= MAX_CACHED_LABEL_ARRAYS) {
+                mLabelWidths.clear();
+            }
+            widths = new float[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                widths[i] = mTextPaint.measureText(labels[i]);
+            }
+            mLabelWidths.put(labels, widths);
+        }
+        return widths;
+    }
+
+    /**
+     * Gets the widths of the year labels, measured when a label is first drawn.
+     *
+     * @param yearLabels The shared year labels.
+     * @return the pages of {@link YearLabels#PAGE_SIZE} widths of the labels from the min year in
+     * pixels, a page is null until a year of it is drawn and a width 0 until it is measured
+     */
+    float[][] getYearWidths(YearLabels yearLabels) {
+        float[][] widths = mYearWidths.get(yearLabels);
+        if (widths == null) {
+            if (mYearWidths.size() >= MAX_CACHED_LABEL_ARRAYS) {
+                mYearWidths.clear();
+            }
+            widths = new float[(yearLabels.size() + YearLabels.PAGE_SIZE - 1)
+                    / YearLabels.PAGE_SIZE][];
+            mYearWidths.put(yearLabels, widths);
+        }
+        return widths;
+    }
+}
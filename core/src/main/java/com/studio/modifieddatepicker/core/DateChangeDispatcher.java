@@ -0,0 +1,141 @@
+package com.studio.modifieddatepicker.core;
+
+/**
+ * Decides when the changes of a picker reach its listener: on every change, at most once per
+ * frame, or once the columns stopped changing. Plain Java like {@link MonthYearController}, the
+ * time is left to a {@link Scheduler}: the {@code SimpleDatePickerDelegate} posts to its view,
+ * {@link PickerTraceReplayer} to a clock driven by the delays of a trace. Must be used from a
+ * single thread.
+ */
+public final class DateChangeDispatcher {
+
+    /**
+     * Dispatch mode notifying the listener synchronously on every change.
+     */
+    public static final int DISPATCH_IMMEDIATE = 0;
+
+    /**
+     * Dispatch mode notifying the listener at most once per animation frame.
+     */
+    public static final int DISPATCH_COALESCED = 1;
+
+    /**
+     * Dispatch mode notifying the listener only once the columns stopped changing.
+     */
+    public static final int DISPATCH_SETTLED = 2;
+
+    /**
+     * The time the columns must stay unchanged before a settled change is dispatched, longer than
+     * the long press update intervals of the spinners.
+     */
+    public static final long SETTLE_DELAY_MILLIS = 300;
+
+    private final Scheduler mScheduler;
+    private final Runnable mDispatch;
+
+    private int mMode = DISPATCH_IMMEDIATE;
+    private boolean mPending;
+
+    private final Runnable mPendingDispatch = new Runnable() {
+        @Override
+        public void run() {
+            mPending = false;
+            mDispatch.run();
+        }
+    };
+
+    /**
+     * @param scheduler The scheduler running the delayed dispatches.
+     * @param dispatch  Notifies the listener of the current selection.
+     */
+    public DateChangeDispatcher(Scheduler scheduler, Runnable dispatch) {
+        mScheduler = scheduler;
+        mDispatch = dispatch;
+    }
+
+    /**
+     * Sets the dispatch mode, dropping a pending dispatch of another mode.
+     *
+     * @param mode One of {@link #DISPATCH_IMMEDIATE}, {@link #DISPATCH_COALESCED} or
+     *             {@link #DISPATCH_SETTLED}.
+     */
+    public void setMode(int mode) {
+        if (mode != DISPATCH_IMMEDIATE && mode != DISPATCH_COALESCED
+                && mode != DISPATCH_SETTLED) {
+            throw new IllegalArgumentException("Unknown dispatch mode " + mode);
+        }
+        if (mode != mMode) {
+            cancel();
+            mMode = mode;
+        }
+    }
+
+    public int getMode() {
+        return mMode;
+    }
+
+    /**
+     * Dispatches a change of the selection, now or later depending on the mode.
+     */
+    public void onChange() {
+        switch (mMode) {
+            case DISPATCH_COALESCED:
+                if (!mPending) {
+                    mPending = true;
+                    mScheduler.postOnNextFrame(mPendingDispatch);
+                }
+                break;
+            case DISPATCH_SETTLED:
+                mScheduler.remove(mPendingDispatch);
+                mPending = true;
+                mScheduler.postDelayed(mPendingDispatch, SETTLE_DELAY_MILLIS);
+                break;
+            default:
+                mDispatch.run();
+                break;
+        }
+    }
+
+    /**
+     * Dispatches a settled change right away when a fling came to rest, there is no need to wait
+     * for the settle delay.
+     */
+    public void onScrollIdle() {
+        if (mMode == DISPATCH_SETTLED && mPending) {
+            mScheduler.remove(mPendingDispatch);
+            mPendingDispatch.run();
+        }
+    }
+
+    /**
+     * Drops the pending dispatch, if such.
+     */
+    public void cancel() {
+        if (mPending) {
+            mScheduler.remove(mPendingDispatch);
+            mPending = false;
+        }
+    }
+
+    /**
+     * Runs the delayed dispatches on the thread of the dispatcher.
+     */
+    public interface Scheduler {
+
+        /**
+         * @param task The task to run when the next frame is drawn.
+         */
+        void postOnNextFrame(Runnable task);
+
+        /**
+         * @param task        The task to run after the delay.
+         * @param delayMillis The delay in milliseconds.
+         */
+        void postDelayed(Runnable task, long delayMillis);
+
+        /**
+         * @param task The task to remove, if it did not run yet.
+         */
+        void remove(Runnable task);
+    }
+}
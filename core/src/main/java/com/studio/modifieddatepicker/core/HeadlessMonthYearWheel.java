@@ -0,0 +1,128 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.YearLabels;
+
+/**
+ * A {@link MonthYearWheel} keeping its columns in fields, to run a {@link MonthYearController}
+ * on a plain JVM in unit tests, benchmarks and trace replays. Values are clamped to the range of
+ * their column as the framework spinners do, and {@link #scroll(int, int)} steps a column as a
+ * user would.
+ */
+public class HeadlessMonthYearWheel implements MonthYearWheel {
+
+    private final int[] mMinValues = new int[2];
+    private final int[] mMaxValues = new int[2];
+    private final int[] mValues = new int[2];
+    private final boolean[] mWraps = new boolean[2];
+    private final String[][] mDisplayedValues = new String[2][];
+
+    private Callback mCallback;
+    private YearLabels mYearLabels;
+    private int mRangeChanges;
+
+    @Override
+    public void setCallback(Callback callback) {
+        mCallback = callback;
+    }
+
+    @Override
+    public void setRange(int column, int minValue, int maxValue, String[] displayedValues,
+                         boolean wrap) {
+        checkColumn(column);
+        mMinValues[column] = minValue;
+        mMaxValues[column] = maxValue;
+        mDisplayedValues[column] = displayedValues;
+        mWraps[column] = wrap;
+        mValues[column] = Math.max(minValue, Math.min(maxValue, mValues[column]));
+        mRangeChanges++;
+    }
+
+    @Override
+    public void setYearLabels(YearLabels yearLabels) {
+        mYearLabels = yearLabels;
+    }
+
+    @Override
+    public int getValue(int column) {
+        checkColumn(column);
+        return mValues[column];
+    }
+
+    @Override
+    public void setValue(int column, int value) {
+        checkColumn(column);
+        mValues[column] = Math.max(mMinValues[column], Math.min(mMaxValues[column], value));
+    }
+
+    @Override
+    public void invalidateEnabledMonths() {
+        // nothing to redraw
+    }
+
+    /**
+     * Moves a column by a number of steps one value at a time, wrapping around if the column
+     * wraps, and reports every step to the callback.
+     *
+     * @param column Either {@link #COLUMN_MONTH} or {@link #COLUMN_YEAR}.
+     * @param steps  The number of steps, negative to scroll backwards.
+     */
+    public void scroll(int column, int steps) {
+        checkColumn(column);
+        int direction = steps < 0 ? -1 : 1;
+        for (int i = 0; i != steps; i += direction) {
+            int oldVal = mValues[column];
+            int newVal = oldVal + direction;
+            if (newVal > mMaxValues[column] || newVal < mMinValues[column]) {
+                if (!mWraps[column]) {
+                    return;
+                }
+                newVal = direction > 0 ? mMinValues[column] : mMaxValues[column];
+            }
+            mValues[column] = newVal;
+            if (mCallback != null) {
+                mCallback.onValueChange(column, oldVal, newVal);
+            }
+        }
+    }
+
+    public int getMinValue(int column) {
+        checkColumn(column);
+        return mMinValues[column];
+    }
+
+    public int getMaxValue(int column) {
+        checkColumn(column);
+        return mMaxValues[column];
+    }
+
+    public boolean isWrap(int column) {
+        checkColumn(column);
+        return mWraps[column];
+    }
+
+    /**
+     * @param column Either {@link #COLUMN_MONTH} or {@link #COLUMN_YEAR}.
+     * @return the labels of the values of the column, or null if the values are displayed
+     */
+    public String[] getDisplayedValues(int column) {
+        checkColumn(column);
+        return mDisplayedValues[column];
+    }
+
+    public YearLabels getYearLabels() {
+        return mYearLabels;
+    }
+
+    /**
+     * @return the number of times a range of a column was set
+     */
+    public int getRangeChanges() {
+        return mRangeChanges;
+    }
+
+    private static void checkColumn(int column) {
+        if (column != COLUMN_MONTH && column != COLUMN_YEAR) {
+            throw new IllegalArgumentException("Unknown column " + column);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+/**
+ * The month and year columns showing a {@link MonthYearSelection}, and the rules of changing the
+ * selection with the columns. The month column holds the months of the selected year inside of
+ * the bounds, the year column the years inside of the bounds, paged through windows when the
+ * range of years is long. Plain Java without Android dependencies.
+ */
+public final class MonthYearColumns {
+
+    public static final int COLUMN_MONTH = 0;
+    public static final int COLUMN_YEAR = 1;
+
+    // year ranges longer than the threshold are paged through windows of the page size
+    public static final int YEAR_PAGING_THRESHOLD = 400;
+    public static final int YEAR_PAGE_SIZE = 100;
+
+    private static final int NOT_SET = Integer.MIN_VALUE;
+
+    private int mYear;
+    private int mMonthOfYear;
+    private int mMinMonthOfYear;
+    private int mMaxMonthOfYear;
+    private boolean mWrapMonths;
+    private int mMinYear = NOT_SET;
+    private int mMaxYear = NOT_SET;
+
+    /**
+     * Computes the columns showing the selection. The year page is kept while the selected year
+     * is inside of it and not on an edge which has more years beyond it, otherwise a page
+     * centered on the selected year is used.
+     *
+     * @param table     The table of the months.
+     * @param selection The selection.
+     */
+    public void update(MonthTable table, MonthYearSelection selection) {
+        int selectedMonth = selection.getSelectedMonth();
+        int minMonth = selection.getMinMonth();
+        int maxMonth = selection.getMaxMonth();
+        mYear = table.getYear(selectedMonth);
+        mMonthOfYear = table.getMonth(selectedMonth);
+        int minYear = table.getYear(minMonth);
+        int maxYear = table.getYear(maxMonth);
+        int lastMonthOfYear = table.getMonthsInYear(mYear) - 1;
+
+        mMinMonthOfYear = mYear == minYear ? table.getMonth(minMonth) : 0;
+        mMaxMonthOfYear = mYear == maxYear
+                ? Math.min(table.getMonth(maxMonth), lastMonthOfYear) : lastMonthOfYear;
+        mWrapMonths = mMinMonthOfYear == 0 && mMaxMonthOfYear == lastMonthOfYear;
+
+        if (maxYear - minYear < YEAR_PAGING_THRESHOLD) {
+            mMinYear = minYear;
+            mMaxYear = maxYear;
+        } else {
+            if (mMinYear == NOT_SET || mMaxYear - mMinYear != YEAR_PAGE_SIZE - 1
+                    || mMinYear < minYear || mMaxYear > maxYear
+                    || mYear < mMinYear || mYear > mMaxYear
+                    || (mYear == mMinYear && mYear != minYear)
+                    || (mYear == mMaxYear && mYear != maxYear)) {
+                mMinYear = Math.max(minYear,
+                        Math.min(maxYear - YEAR_PAGE_SIZE + 1, mYear - YEAR_PAGE_SIZE / 2));
+            }
+            mMaxYear = mMinYear + YEAR_PAGE_SIZE - 1;
+        }
+    }
+
+    /**
+     * Gets the month selected by a value change of a column, before clamping. A change of the
+     * month column from the last to the first month of the year or back wraps to the next or
+     * previous year, a change of the year column keeps the month.
+     *
+     * @param table  The table of the months.
+     * @param month  The selected month.
+     * @param column Either {@link #COLUMN_MONTH} or {@link #COLUMN_YEAR}.
+     * @param oldVal The previous value of the column.
+     * @param newVal The new value of the column.
+     * @return the month
+     */
+    public static int applyChange(MonthTable table, int month, int column, int oldVal,
+                                  int newVal) {
+        if (column == COLUMN_MONTH) {
+            int year = table.getYear(month);
+            int lastMonthOfYear = table.getMonthsInYear(year) - 1;
+            if (oldVal == lastMonthOfYear && newVal == 0) {
+                return table.toIndex(year + 1, 0);
+            } else if (oldVal == 0 && newVal == lastMonthOfYear) {
+                return table.normalize(month - table.getMonth(month) - 1, -1);
+            } else {
+                return month + newVal - oldVal;
+            }
+        } else if (column == COLUMN_YEAR) {
+            return table.withYear(month, newVal);
+        } else {
+            throw new IllegalArgumentException("Unknown column " + column);
+        }
+    }
+
+    /**
+     * @return the selected year
+     */
+    public int getYear() {
+        return mYear;
+    }
+
+    /**
+     * @return the selected month of the year, starting at 0
+     */
+    public int getMonthOfYear() {
+        return mMonthOfYear;
+    }
+
+    public int getMinMonthOfYear() {
+        return mMinMonthOfYear;
+    }
+
+    public int getMaxMonthOfYear() {
+        return mMaxMonthOfYear;
+    }
+
+    /**
+     * @return true if the month column holds every month of the year and wraps around
+     */
+    public boolean isWrapMonths() {
+        return mWrapMonths;
+    }
+
+    /**
+     * @return the first year of the year column
+     */
+    public int getMinYear() {
+        return mMinYear;
+    }
+
+    /**
+     * @return the last year of the year column
+     */
+    public int getMaxYear() {
+        return mMaxYear;
+    }
+}
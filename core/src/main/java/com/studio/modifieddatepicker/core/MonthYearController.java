@@ -0,0 +1,379 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.MonthMask;
+import com.studio.modifieddatepicker.utils.MonthSymbols;
+import com.studio.modifieddatepicker.utils.MonthTable;
+import com.studio.modifieddatepicker.utils.YearLabels;
+
+import java.util.Locale;
+
+/**
+ * Applies the changes of a {@link MonthYearSelection} and of the columns of a {@link
+ * MonthYearWheel} to each other, only touching the columns whose bounds, labels or values
+ * changed. Plain Java without Android dependencies: the {@code SimpleDatePickerDelegate} adapts
+ * it to the views and the listener, a {@link HeadlessMonthYearWheel} runs it in unit tests,
+ * benchmarks and trace replays. Must be used from a single thread.
+ */
+public class MonthYearController {
+
+    private static final int NOT_APPLIED = Integer.MIN_VALUE;
+
+    private static volatile PickerMetrics sMetrics = PickerMetrics.NONE;
+
+    private final MonthYearWheel mWheel;
+
+    // the selection and its bounds as month indices of mMonthTable, which are epoch-months in the
+    // Gregorian calendar, see EpochMonths; either owned or bound by the caller
+    private MonthYearSelection mSelection;
+    private final MonthYearColumns mColumns = new MonthYearColumns();
+
+    private Locale mLocale;
+    private MonthSymbols mMonthSymbols;
+    private MonthTable mMonthTable;
+
+    // the column configuration last applied by updateColumns
+    private int mAppliedMinMonthOfYear = NOT_APPLIED;
+    private int mAppliedMaxMonthOfYear = NOT_APPLIED;
+    private int mAppliedMinYear = NOT_APPLIED;
+    private int mAppliedMaxYear = NOT_APPLIED;
+    private String[] mAppliedMonthLabels;
+    private YearLabels mAppliedYearLabels;
+
+    private SelectionStore mSelectionStore;
+
+    /**
+     * Creates a controller without a selection, the columns are not touched before a selection
+     * is applied or bound.
+     *
+     * @param wheel  The columns to drive. The callback of the wheel is left to the caller.
+     * @param locale The locale of the labels and of the calendar system.
+     */
+    public MonthYearController(MonthYearWheel wheel, Locale locale) {
+        mWheel = wheel;
+        setLocale(locale);
+        mSelection = new MonthYearSelection(0, 0, 0);
+    }
+
+    /**
+     * Sets the metrics receiving the timings of all pickers in the process.
+     *
+     * @param metrics The metrics, or null to stop recording.
+     */
+    public static void setMetrics(PickerMetrics metrics) {
+        sMetrics = metrics != null ? metrics : PickerMetrics.NONE;
+    }
+
+    public static PickerMetrics getMetrics() {
+        return sMetrics;
+    }
+
+    /**
+     * Sets the locale of the labels and of the calendar system. The months of the selection are
+     * kept as they are, the caller applies a selection of the new calendar system afterwards.
+     *
+     * @param locale The locale.
+     */
+    public void setLocale(Locale locale) {
+        setLocale(locale, MonthTable.forLocale(locale));
+    }
+
+    /**
+     * Sets the locale of the labels and a calendar system other than the locale's. The months
+     * of the selection are kept as they are, the caller applies a selection of the new calendar
+     * system afterwards.
+     *
+     * @param locale     The locale.
+     * @param monthTable The table of the calendar system, e.g. from
+     *                   {@link MonthTable#forCalendar(java.util.Calendar)}.
+     */
+    public void setLocale(Locale locale, MonthTable monthTable) {
+        mLocale = locale;
+        mMonthSymbols = MonthSymbols.get(locale, monthTable.getMaxMonthsInYear());
+        mMonthTable = monthTable;
+    }
+
+    public Locale getLocale() {
+        return mLocale;
+    }
+
+    /**
+     * @return the table of the months of the selection
+     */
+    public MonthTable getMonthTable() {
+        return mMonthTable;
+    }
+
+    public MonthYearWheel getWheel() {
+        return mWheel;
+    }
+
+    /**
+     * @return the selection, owned by the controller unless bound by the caller
+     */
+    public MonthYearSelection getSelection() {
+        return mSelection;
+    }
+
+    /**
+     * Replaces the selection, bounds and available months with a new owned selection and
+     * updates the columns once.
+     *
+     * @param selectedMonth   The selected month.
+     * @param minMonth        The min month.
+     * @param maxMonth        The max month.
+     * @param availableMonths The available months, or null if every month is available.
+     */
+    public void apply(int selectedMonth, int minMonth, int maxMonth, MonthMask availableMonths) {
+        mSelection = new MonthYearSelection(selectedMonth, minMonth, maxMonth);
+        mSelection.setAvailableMonths(availableMonths);
+        select(selectedMonth, 1);
+        updateColumns();
+        mWheel.invalidateEnabledMonths();
+    }
+
+    /**
+     * Binds the controller to the selection, replacing the bounds, available months and selected
+     * month in a single pass without allocating. Until another selection is bound the controller
+     * works on the selection, so its selected month follows the columns.
+     *
+     * @param selection The selection, or null to stop changing the bound one.
+     */
+    public void bind(MonthYearSelection selection) {
+        if (selection == null) {
+            // keep showing the same months on a copy
+            mSelection = new MonthYearSelection(mSelection);
+            return;
+        }
+        mSelection = selection;
+        select(selection.getSelectedMonth(), 1);
+        updateColumns();
+        mWheel.invalidateEnabledMonths();
+    }
+
+    /**
+     * Restores the bounds, available months and selection in a single pass, columns which
+     * already match are not touched.
+     *
+     * @param selectedMonth   The selected month.
+     * @param minMonth        The min month.
+     * @param maxMonth        The max month.
+     * @param availableMonths The available months, or null if every month is available.
+     */
+    public void restore(int selectedMonth, int minMonth, int maxMonth,
+                        MonthMask availableMonths) {
+        mSelection.setMinMonth(minMonth);
+        mSelection.setMaxMonth(maxMonth);
+        mSelection.setAvailableMonths(availableMonths);
+        select(selectedMonth, 1);
+        updateColumns();
+        mWheel.invalidateEnabledMonths();
+    }
+
+    /**
+     * Unbinds the selection and drops its available months, then sets the bounds, so that the
+     * columns can be reused.
+     *
+     * @param minMonth The min month.
+     * @param maxMonth The max month.
+     */
+    public void reset(int minMonth, int maxMonth) {
+        mSelection = new MonthYearSelection(mSelection);
+        mSelection.setAvailableMonths(null);
+        mWheel.invalidateEnabledMonths();
+        setMinMonth(minMonth);
+        setMaxMonth(maxMonth);
+    }
+
+    /**
+     * Applies a value change of one of the columns to the selection.
+     *
+     * @param column Either {@link MonthYearWheel#COLUMN_MONTH} or {@link
+     *               MonthYearWheel#COLUMN_YEAR}.
+     * @param oldVal The previous value of the column.
+     * @param newVal The new value of the column.
+     */
+    public void onValueChange(int column, int oldVal, int newVal) {
+        // take care of wrapping of months to update the year
+        int currentMonth = mSelection.getSelectedMonth();
+        int month = MonthYearColumns.applyChange(mMonthTable, currentMonth, column, oldVal,
+                newVal);
+
+        // now set the date to the adjusted one
+        select(month, month - currentMonth);
+        updateColumns();
+    }
+
+    /**
+     * Selects the month clamped to the bounds and updates the columns.
+     *
+     * @param month The month, see {@link MonthYearSelection#select(MonthTable, int, int)}.
+     */
+    public void setSelectedMonth(int month) {
+        select(month, 1);
+        updateColumns();
+    }
+
+    /**
+     * Sets the minimal selectable month.
+     *
+     * @param minMonth The min month.
+     */
+    public void setMinMonth(int minMonth) {
+        if (minMonth == mSelection.getMinMonth()) {
+            return;
+        }
+        mSelection.setMinMonth(minMonth);
+        select(mSelection.getSelectedMonth(), 1);
+        updateColumns();
+    }
+
+    /**
+     * Sets the maximal selectable month.
+     *
+     * @param maxMonth The max month.
+     */
+    public void setMaxMonth(int maxMonth) {
+        if (maxMonth == mSelection.getMaxMonth()) {
+            return;
+        }
+        mSelection.setMaxMonth(maxMonth);
+        select(mSelection.getSelectedMonth(), -1);
+        updateColumns();
+    }
+
+    /**
+     * Sets the months which can be selected inside of the bounds, skipping to the next available
+     * month if the selected month is not available.
+     *
+     * @param availableMonths The available months, or null if every month is available.
+     * @return true if the selected month changed
+     */
+    public boolean setAvailableMonths(MonthMask availableMonths) {
+        mSelection.setAvailableMonths(availableMonths);
+        int month = mSelection.getSelectedMonth();
+        select(month, 1);
+        updateColumns();
+        mWheel.invalidateEnabledMonths();
+        return month != mSelection.getSelectedMonth();
+    }
+
+    /**
+     * Moves the selection by the number of years keeping its month, clamped to the bounds.
+     *
+     * @param years The number of years to move, negative to move backwards.
+     * @return true if the selected month changed
+     */
+    public boolean stepYears(int years) {
+        if (mSelection.stepYears(mMonthTable, years)) {
+            updateColumns();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Publishes the selection and its bounds to the store whenever they change, so that other
+     * threads can read them without locks. The controller must be the only writer of the store.
+     *
+     * @param selectionStore The store, or null to stop publishing.
+     */
+    public void setSelectionStore(SelectionStore selectionStore) {
+        mSelectionStore = selectionStore;
+        publishSelection();
+    }
+
+    /**
+     * @param monthOfYear The month of the year of the year column, starting at 0.
+     * @return true if the month is inside of the bounds and available
+     */
+    public boolean isMonthEnabled(int monthOfYear) {
+        return mSelection.isAvailable(mMonthTable.toIndex(getYear(), monthOfYear));
+    }
+
+    /**
+     * @return the selected month as a month index of the picker's {@link MonthTable}
+     */
+    public int getSelectedMonth() {
+        return mSelection.getSelectedMonth();
+    }
+
+    public int getYear() {
+        return mMonthTable.getYear(mSelection.getSelectedMonth());
+    }
+
+    public int getMonth() {
+        return mMonthTable.getMonth(mSelection.getSelectedMonth());
+    }
+
+    /**
+     * Sets the selection to the month clamped to the min and max dates. If the month is not
+     * available the nearest available month in the direction is selected instead.
+     */
+    private void select(int month, int direction) {
+        mSelection.select(mMonthTable, month, direction);
+    }
+
+    private void updateColumns() {
+        PickerMetrics metrics = sMetrics;
+        long token = metrics.begin(PickerMetrics.PHASE_UPDATE_SPINNERS);
+        applyColumns();
+        publishSelection();
+        metrics.end(PickerMetrics.PHASE_UPDATE_SPINNERS, token);
+    }
+
+    private void publishSelection() {
+        if (mSelectionStore != null) {
+            // a single volatile write, the store skips selections it already holds
+            mSelectionStore.publish(mSelection.getSelectedMonth(), mSelection.getMinMonth(),
+                    mSelection.getMaxMonth());
+        }
+    }
+
+    private void applyColumns() {
+        MonthYearColumns columns = mColumns;
+        columns.update(mMonthTable, mSelection);
+        int minMonthOfYear = columns.getMinMonthOfYear();
+        int maxMonthOfYear = columns.getMaxMonthOfYear();
+
+        // set the column ranges respecting the min and max dates, only touching the columns
+        // when their bounds or labels change as every change invalidates the column
+
+        // make sure the month names are a zero based array
+        // with the months in the month column
+        String[] displayedValues = mMonthSymbols.getRange(minMonthOfYear, maxMonthOfYear + 1);
+        if (minMonthOfYear != mAppliedMinMonthOfYear || maxMonthOfYear != mAppliedMaxMonthOfYear
+                || displayedValues != mAppliedMonthLabels) {
+            mWheel.setRange(MonthYearWheel.COLUMN_MONTH, minMonthOfYear, maxMonthOfYear,
+                    displayedValues, columns.isWrapMonths());
+            mAppliedMinMonthOfYear = minMonthOfYear;
+            mAppliedMaxMonthOfYear = maxMonthOfYear;
+            mAppliedMonthLabels = displayedValues;
+        }
+
+        // the year labels are shared by all pickers of the locale and kept while they cover the
+        // bounds, so the year column formats no years
+        int minYear = mMonthTable.getYear(mSelection.getMinMonth());
+        int maxYear = Math.max(minYear, mMonthTable.getYear(mSelection.getMaxMonth()));
+        if (mAppliedYearLabels == null
+                || !mAppliedYearLabels.covers(mLocale, minYear, maxYear)) {
+            mAppliedYearLabels = YearLabels.get(mLocale, minYear, maxYear);
+            mWheel.setYearLabels(mAppliedYearLabels);
+        }
+
+        // year column range does not change based on the current date unless the range is paged
+        if (columns.getMinYear() != mAppliedMinYear || columns.getMaxYear() != mAppliedMaxYear) {
+            mWheel.setRange(MonthYearWheel.COLUMN_YEAR, columns.getMinYear(),
+                    columns.getMaxYear(), null, false);
+            mAppliedMinYear = columns.getMinYear();
+            mAppliedMaxYear = columns.getMaxYear();
+        }
+
+        // set the column values
+        if (mWheel.getValue(MonthYearWheel.COLUMN_YEAR) != columns.getYear()) {
+            mWheel.setValue(MonthYearWheel.COLUMN_YEAR, columns.getYear());
+        }
+        if (mWheel.getValue(MonthYearWheel.COLUMN_MONTH) != columns.getMonthOfYear()) {
+            mWheel.setValue(MonthYearWheel.COLUMN_MONTH, columns.getMonthOfYear());
+        }
+    }
+}
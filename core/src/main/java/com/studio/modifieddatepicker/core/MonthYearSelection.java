@@ -0,0 +1,163 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.MonthMask;
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+/**
+ * A selected month with its bounds and available months, and the rules of selecting a month
+ * inside of them. Plain Java without Android dependencies, so the rules of the picker can be run
+ * on a server or in unit tests. A picker keeps one, and can be bound to the selection of a field
+ * with {@code SimpleDatePickerDelegate#bind(MonthYearSelection)} so that a list of fields can
+ * share a few recycled pickers. Months are month indices of a {@link MonthTable}.
+ */
+public class MonthYearSelection {
+
+    private int mSelectedMonth;
+    private int mMinMonth;
+    private int mMaxMonth;
+    private MonthMask mAvailableMonths;
+
+    /**
+     * @param selectedMonth The selected month, clamped to the min and max months.
+     * @param minMonth      The min month.
+     * @param maxMonth      The max month.
+     */
+    public MonthYearSelection(int selectedMonth, int minMonth, int maxMonth) {
+        setBounds(minMonth, maxMonth);
+        setSelectedMonth(selectedMonth);
+    }
+
+    /**
+     * Creates a copy of the selection sharing its available months.
+     *
+     * @param selection The selection to copy.
+     */
+    public MonthYearSelection(MonthYearSelection selection) {
+        mSelectedMonth = selection.mSelectedMonth;
+        mMinMonth = selection.mMinMonth;
+        mMaxMonth = selection.mMaxMonth;
+        mAvailableMonths = selection.mAvailableMonths;
+    }
+
+    public int getSelectedMonth() {
+        return mSelectedMonth;
+    }
+
+    /**
+     * Sets the selected month without checking the available months, a bound picker shows it once
+     * the selection is bound again.
+     *
+     * @param selectedMonth The selected month, clamped to the min and max months.
+     */
+    public void setSelectedMonth(int selectedMonth) {
+        mSelectedMonth = clamp(selectedMonth);
+    }
+
+    public int getMinMonth() {
+        return mMinMonth;
+    }
+
+    /**
+     * Sets the min month as the picker does, without checking the max month or changing the
+     * selected month.
+     *
+     * @param minMonth The min month.
+     */
+    public void setMinMonth(int minMonth) {
+        mMinMonth = minMonth;
+    }
+
+    public int getMaxMonth() {
+        return mMaxMonth;
+    }
+
+    /**
+     * Sets the max month as the picker does, without checking the min month or changing the
+     * selected month.
+     *
+     * @param maxMonth The max month.
+     */
+    public void setMaxMonth(int maxMonth) {
+        mMaxMonth = maxMonth;
+    }
+
+    /**
+     * Sets the bounds, clamping the selected month to them.
+     *
+     * @param minMonth The min month.
+     * @param maxMonth The max month.
+     */
+    public void setBounds(int minMonth, int maxMonth) {
+        if (maxMonth < minMonth) {
+            throw new IllegalArgumentException("The max date should not be less than min date.");
+        }
+        mMinMonth = minMonth;
+        mMaxMonth = maxMonth;
+        mSelectedMonth = clamp(mSelectedMonth);
+    }
+
+    public MonthMask getAvailableMonths() {
+        return mAvailableMonths;
+    }
+
+    /**
+     * @param availableMonths The available months, or null if every month is available.
+     */
+    public void setAvailableMonths(MonthMask availableMonths) {
+        mAvailableMonths = availableMonths;
+    }
+
+    /**
+     * @param month The month.
+     * @return true if the month is inside of the min and max months and available
+     */
+    public boolean isAvailable(int month) {
+        return month >= mMinMonth && month <= mMaxMonth
+                && (mAvailableMonths == null || mAvailableMonths.isAvailable(month));
+    }
+
+    /**
+     * Selects the month clamped to the min and max months. A month past the end of a shorter
+     * year is moved onto an existing month, and if the month is not available the nearest
+     * available month in the direction is selected instead.
+     *
+     * @param table     The table of the months.
+     * @param month     The month.
+     * @param direction Negative to look for an available month before the month, otherwise
+     *                  after it.
+     * @return the selected month
+     */
+    public int select(MonthTable table, int month, int direction) {
+        month = clamp(table.normalize(month, direction));
+        if (mAvailableMonths != null && !mAvailableMonths.isAvailable(month)) {
+            int availableMonth = mAvailableMonths.findAvailable(
+                    month, direction, mMinMonth, mMaxMonth);
+            if (availableMonth != MonthMask.NO_MONTH) {
+                month = availableMonth;
+            }
+        }
+        mSelectedMonth = month;
+        return month;
+    }
+
+    /**
+     * Moves the selection by the number of years keeping its month, see {@link
+     * #select(MonthTable, int, int)}.
+     *
+     * @param table The table of the months.
+     * @param years The number of years to move, negative to move backwards.
+     * @return true if the selected month changed
+     */
+    public boolean stepYears(MonthTable table, int years) {
+        int month = table.withYear(mSelectedMonth, table.getYear(mSelectedMonth) + years);
+        if (years == 0 || clamp(month) == mSelectedMonth) {
+            return false;
+        }
+        int selectedMonth = mSelectedMonth;
+        return select(table, month, years) != selectedMonth;
+    }
+
+    private int clamp(int month) {
+        return Math.max(mMinMonth, Math.min(mMaxMonth, month));
+    }
+}
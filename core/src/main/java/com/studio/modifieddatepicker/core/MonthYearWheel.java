@@ -0,0 +1,86 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.YearLabels;
+
+/**
+ * The month and year columns driven by a {@link MonthYearController}. On Android the {@code
+ * SimpleDatePickerDelegate} finds a view implementing it with the id {@code wheel} in its layout,
+ * or falls back to the two framework spinners with the ids {@code month} and {@code year}. Off
+ * Android {@link HeadlessMonthYearWheel} keeps the columns in memory.
+ */
+public interface MonthYearWheel {
+
+    int COLUMN_MONTH = MonthYearColumns.COLUMN_MONTH;
+    int COLUMN_YEAR = MonthYearColumns.COLUMN_YEAR;
+
+    /**
+     * @param callback The callback receiving the changes made by the user, or null.
+     */
+    void setCallback(Callback callback);
+
+    /**
+     * Sets the values of a column.
+     *
+     * @param column          Either {@link #COLUMN_MONTH} or {@link #COLUMN_YEAR}.
+     * @param minValue        The min value.
+     * @param maxValue        The max value.
+     * @param displayedValues The labels of the values from the min to the max value, or null to
+     *                        display the values, using the year labels in the year column.
+     * @param wrap            Whether the column wraps around from the max to the min value.
+     */
+    void setRange(int column, int minValue, int maxValue, String[] displayedValues,
+                  boolean wrap);
+
+    /**
+     * Sets the labels of the year column, set before the range of the year column.
+     *
+     * @param yearLabels The shared labels of the years.
+     */
+    void setYearLabels(YearLabels yearLabels);
+
+    /**
+     * @param column Either {@link #COLUMN_MONTH} or {@link #COLUMN_YEAR}.
+     * @return the value of the column
+     */
+    int getValue(int column);
+
+    /**
+     * Sets the value of a column without notifying the callback.
+     *
+     * @param column Either {@link #COLUMN_MONTH} or {@link #COLUMN_YEAR}.
+     * @param value  The value.
+     */
+    void setValue(int column, int value);
+
+    /**
+     * Redraws the months after {@link Callback#isMonthEnabled(int)} changed.
+     */
+    void invalidateEnabledMonths();
+
+    /**
+     * The callback used to indicate the user changed a column.
+     */
+    interface Callback {
+
+        /**
+         * Called for every step of a column, so a wrap is seen as a change from the max to the
+         * min value or back.
+         *
+         * @param column Either {@link #COLUMN_MONTH} or {@link #COLUMN_YEAR}.
+         * @param oldVal The previous value of the column.
+         * @param newVal The new value of the column.
+         */
+        void onValueChange(int column, int oldVal, int newVal);
+
+        /**
+         * Called when the columns came to rest after a scroll or fling.
+         */
+        void onScrollIdle();
+
+        /**
+         * @param monthOfYear The month of the year of the year column, starting at 0.
+         * @return false if the month should be drawn disabled
+         */
+        boolean isMonthEnabled(int monthOfYear);
+    }
+}
@@ -0,0 +1,67 @@
+package com.studio.modifieddatepicker.core;
+
+/**
+ * Receives the timings of the phases of the picker. Implementations are called on the main
+ * thread, on the hot path, and should be cheap. {@link #NONE} is used unless other metrics are
+ * set with {@link MonthYearController#setMetrics(PickerMetrics)}.
+ */
+public interface PickerMetrics {
+
+    /**
+     * Construction of a {@code SimpleDatePickerDialog}, including inflation.
+     */
+    int PHASE_DIALOG_CREATE = 0;
+
+    /**
+     * Inflation of the picker layout.
+     */
+    int PHASE_INFLATE = 1;
+
+    /**
+     * Loading the month symbols and calendar of the locale.
+     */
+    int PHASE_LOCALE_SETUP = 2;
+
+    /**
+     * Applying the selection and its bounds to the spinners.
+     */
+    int PHASE_UPDATE_SPINNERS = 3;
+
+    /**
+     * Calling the {@code SimpleDatePickerDelegate.OnDateChangedListener}.
+     */
+    int PHASE_DISPATCH = 4;
+
+    int PHASE_COUNT = 5;
+
+    /**
+     * Metrics recording nothing.
+     */
+    PickerMetrics NONE = new PickerMetrics() {
+        @Override
+        public long begin(int phase) {
+            return 0;
+        }
+
+        @Override
+        public void end(int phase, long token) {
+            // Do nothing
+        }
+    };
+
+    /**
+     * Called when a phase begins.
+     *
+     * @param phase One of the PHASE constants.
+     * @return a token passed back to {@link #end(int, long)}, typically the start time
+     */
+    long begin(int phase);
+
+    /**
+     * Called when a phase ends, on the same thread the phase began.
+     *
+     * @param phase One of the PHASE constants.
+     * @param token The token returned by {@link #begin(int)}.
+     */
+    void end(int phase, long token);
+}
@@ -0,0 +1,213 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.MonthMask;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * An immutable sequence of column value changes and scroll idle events recorded by {@link
+ * PickerTraceRecorder}, headed by the state of the picker when recording started: the selected,
+ * min and max months, the dispatch mode and the available months. An event is stored as 7 bytes
+ * with the time since the previous event, small enough to keep recorded sessions as regression
+ * fixtures.
+ */
+public final class PickerTrace {
+
+    private static final int MAGIC = 0x4d595054;
+    // version 3 added the scroll idle events, version 2 traces read as traces without them
+    private static final int VERSION = 3;
+    private static final int MIN_VERSION = 2;
+
+    /**
+     * The spinner of an event telling that the columns came to rest.
+     */
+    static final int EVENT_SCROLL_IDLE = -1;
+
+    private final int mSelectedMonth;
+    private final int mMinMonth;
+    private final int mMaxMonth;
+    private final int mDispatchMode;
+    private final MonthMask mAvailableMonths;
+
+    private final byte[] mSpinners;
+    private final short[] mOldValues;
+    private final short[] mNewValues;
+    private final char[] mDelaysMillis;
+
+    PickerTrace(int selectedMonth, int minMonth, int maxMonth, int dispatchMode,
+                MonthMask availableMonths, byte[] spinners, short[] oldValues, short[] newValues,
+                char[] delaysMillis) {
+        mSelectedMonth = selectedMonth;
+        mMinMonth = minMonth;
+        mMaxMonth = maxMonth;
+        mDispatchMode = dispatchMode;
+        mAvailableMonths = availableMonths;
+        mSpinners = spinners;
+        mOldValues = oldValues;
+        mNewValues = newValues;
+        mDelaysMillis = delaysMillis;
+    }
+
+    /**
+     * Reads a trace written by {@link #writeTo(OutputStream)}.
+     *
+     * @param in The stream to read from.
+     * @return the trace
+     * @throws IOException if the stream fails or does not hold a trace
+     */
+    public static PickerTrace readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a picker trace.");
+        }
+        int version = data.readInt();
+        if (version < MIN_VERSION || version > VERSION) {
+            throw new IOException("Unsupported picker trace version " + version);
+        }
+        int selectedMonth = data.readInt();
+        int minMonth = data.readInt();
+        int maxMonth = data.readInt();
+        int dispatchMode = data.readInt();
+        MonthMask availableMonths = null;
+        if (data.readBoolean()) {
+            int firstMonth = data.readInt();
+            int lastMonth = data.readInt();
+            int wordCount = data.readInt();
+            if (lastMonth < firstMonth || wordCount != ((lastMonth - firstMonth) >>> 6) + 1) {
+                throw new IOException("Invalid picker trace mask " + firstMonth + ".." + lastMonth);
+            }
+            long[] words = new long[wordCount];
+            for (int i = 0; i < wordCount; i++) {
+                words[i] = data.readLong();
+            }
+            availableMonths = new MonthMask(firstMonth, lastMonth, words);
+        }
+
+        int size = data.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid picker trace size " + size);
+        }
+        byte[] spinners = new byte[size];
+        short[] oldValues = new short[size];
+        short[] newValues = new short[size];
+        char[] delaysMillis = new char[size];
+        for (int i = 0; i < size; i++) {
+            spinners[i] = data.readByte();
+            oldValues[i] = data.readShort();
+            newValues[i] = data.readShort();
+            delaysMillis[i] = data.readChar();
+        }
+        return new PickerTrace(selectedMonth, minMonth, maxMonth, dispatchMode, availableMonths,
+                spinners, oldValues, newValues, delaysMillis);
+    }
+
+    /**
+     * Writes the trace, the stream is not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(mSelectedMonth);
+        data.writeInt(mMinMonth);
+        data.writeInt(mMaxMonth);
+        data.writeInt(mDispatchMode);
+        data.writeBoolean(mAvailableMonths != null);
+        if (mAvailableMonths != null) {
+            long[] words = mAvailableMonths.toWords();
+            data.writeInt(mAvailableMonths.getFirstMonth());
+            data.writeInt(mAvailableMonths.getLastMonth());
+            data.writeInt(words.length);
+            for (long word : words) {
+                data.writeLong(word);
+            }
+        }
+
+        data.writeInt(size());
+        for (int i = 0; i < size(); i++) {
+            data.writeByte(mSpinners[i]);
+            data.writeShort(mOldValues[i]);
+            data.writeShort(mNewValues[i]);
+            data.writeChar(mDelaysMillis[i]);
+        }
+        data.flush();
+    }
+
+    /**
+     * @return the selected month when recording started
+     */
+    public int getSelectedMonth() {
+        return mSelectedMonth;
+    }
+
+    /**
+     * @return the min month when recording started
+     */
+    public int getMinMonth() {
+        return mMinMonth;
+    }
+
+    /**
+     * @return the max month when recording started
+     */
+    public int getMaxMonth() {
+        return mMaxMonth;
+    }
+
+    /**
+     * @return the dispatch mode of the picker when recording started
+     */
+    public int getDispatchMode() {
+        return mDispatchMode;
+    }
+
+    /**
+     * @return a new mask of the available months when recording started, or null if every month
+     * was available
+     */
+    public MonthMask getAvailableMonths() {
+        if (mAvailableMonths == null) {
+            return null;
+        }
+        return new MonthMask(mAvailableMonths.getFirstMonth(), mAvailableMonths.getLastMonth(),
+                mAvailableMonths.toWords());
+    }
+
+    /**
+     * @return the number of recorded events
+     */
+    public int size() {
+        return mSpinners.length;
+    }
+
+    /**
+     * @param index The index of the event.
+     * @return the spinner of a value change, or {@link #EVENT_SCROLL_IDLE}
+     */
+    int getSpinner(int index) {
+        return mSpinners[index];
+    }
+
+    int getOldValue(int index) {
+        return mOldValues[index];
+    }
+
+    int getNewValue(int index) {
+        return mNewValues[index];
+    }
+
+    /**
+     * @param index The index of the event.
+     * @return the time since the previous event in milliseconds, capped at 65535
+     */
+    public int getDelayMillis(int index) {
+        return mDelaysMillis[index];
+    }
+}
@@ -0,0 +1,107 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.MonthMask;
+
+import java.util.Arrays;
+
+/**
+ * Records the column value changes and scroll idle events of a picker during a real session, see
+ * {@code SimpleDatePickerDelegate#setTraceRecorder(PickerTraceRecorder)}, with the time since the
+ * previous event. Recording starts with the state of the picker, so that {@link
+ * PickerTraceReplayer} can restore it before replaying.
+ */
+public class PickerTraceRecorder {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int mSelectedMonth;
+    private int mMinMonth;
+    private int mMaxMonth;
+    private int mDispatchMode;
+    private MonthMask mAvailableMonths;
+
+    private byte[] mSpinners = new byte[INITIAL_CAPACITY];
+    private short[] mOldValues = new short[INITIAL_CAPACITY];
+    private short[] mNewValues = new short[INITIAL_CAPACITY];
+    private char[] mDelaysMillis = new char[INITIAL_CAPACITY];
+    private int mSize;
+    private long mLastEventNanos = -1;
+
+    /**
+     * Drops the events recorded so far and keeps the state of the picker the next events start
+     * from.
+     *
+     * @param selectedMonth   The selected month.
+     * @param minMonth        The min month.
+     * @param maxMonth        The max month.
+     * @param dispatchMode    The dispatch mode of the picker.
+     * @param availableMonths The available months, or null if every month is available. The
+     *                        mask is copied.
+     */
+    public void start(int selectedMonth, int minMonth, int maxMonth, int dispatchMode,
+                      MonthMask availableMonths) {
+        clear();
+        mSelectedMonth = selectedMonth;
+        mMinMonth = minMonth;
+        mMaxMonth = maxMonth;
+        mDispatchMode = dispatchMode;
+        mAvailableMonths = availableMonths != null
+                ? new MonthMask(availableMonths.getFirstMonth(), availableMonths.getLastMonth(),
+                availableMonths.toWords())
+                : null;
+    }
+
+    /**
+     * Records a change of a column.
+     *
+     * @param spinner Either {@link MonthYearWheel#COLUMN_MONTH} or
+     *                {@link MonthYearWheel#COLUMN_YEAR}.
+     * @param oldVal  The previous value of the column.
+     * @param newVal  The new value of the column.
+     */
+    public void record(int spinner, int oldVal, int newVal) {
+        record(spinner, oldVal, newVal, System.nanoTime());
+    }
+
+    /**
+     * Records that the columns came to rest after a scroll or fling.
+     */
+    public void recordScrollIdle() {
+        record(PickerTrace.EVENT_SCROLL_IDLE, 0, 0, System.nanoTime());
+    }
+
+    void record(int spinner, int oldVal, int newVal, long nowNanos) {
+        if (mSize == mSpinners.length) {
+            int capacity = mSize * 2;
+            mSpinners = Arrays.copyOf(mSpinners, capacity);
+            mOldValues = Arrays.copyOf(mOldValues, capacity);
+            mNewValues = Arrays.copyOf(mNewValues, capacity);
+            mDelaysMillis = Arrays.copyOf(mDelaysMillis, capacity);
+        }
+        long delay = mLastEventNanos < 0 ? 0 : (nowNanos - mLastEventNanos) / 1000000;
+        mLastEventNanos = nowNanos;
+        mSpinners[mSize] = (byte) spinner;
+        mOldValues[mSize] = (short) oldVal;
+        mNewValues[mSize] = (short) newVal;
+        mDelaysMillis[mSize] = (char) Math.min(delay, Character.MAX_VALUE);
+        mSize++;
+    }
+
+    /**
+     * @return the state recording started from and the events recorded so far
+     */
+    public PickerTrace toTrace() {
+        return new PickerTrace(mSelectedMonth, mMinMonth, mMaxMonth, mDispatchMode,
+                mAvailableMonths, Arrays.copyOf(mSpinners, mSize),
+                Arrays.copyOf(mOldValues, mSize), Arrays.copyOf(mNewValues, mSize),
+                Arrays.copyOf(mDelaysMillis, mSize));
+    }
+
+    /**
+     * Drops the events recorded so far, keeping the state recording started from.
+     */
+    public void clear() {
+        mSize = 0;
+        mLastEventNanos = -1;
+    }
+}
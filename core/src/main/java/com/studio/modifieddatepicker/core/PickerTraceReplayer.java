@@ -0,0 +1,234 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Replays a {@link PickerTrace} as fast as possible and measures the cost of every change. The
+ * replay runs a {@link MonthYearController} on a {@link HeadlessMonthYearWheel}, so it needs no
+ * views and runs on any thread, e.g. in a unit test. The state at the head of the trace is
+ * restored before the first change.
+ * <p>
+ * The changes go through a {@link DateChangeDispatcher} in the recorded dispatch mode. The
+ * recorded delays are not waited for, they advance a virtual clock instead, on which frames are
+ * drawn every {@link #FRAME_MILLIS} and settle delays elapse. The report counts the resulting
+ * listener calls, including a dispatch still pending after the last event.
+ */
+public final class PickerTraceReplayer {
+
+    /**
+     * The interval of the frames of the virtual clock, the frames of a 60 Hz display.
+     */
+    public static final long FRAME_MILLIS = 16;
+
+    private PickerTraceReplayer() {
+        // hide constructor
+    }
+
+    /**
+     * Replays the trace.
+     *
+     * @param trace             The trace to replay.
+     * @param locale            The locale of the labels.
+     * @param monthTable        The table of the calendar system the trace was recorded in, the
+     *                          months of its state are month indices of this table.
+     * @param allocationCounter Counts the bytes allocated by the current thread, or null to skip
+     *                          measuring allocations.
+     * @return the measurements
+     */
+    public static Report replay(PickerTrace trace, Locale locale, MonthTable monthTable,
+                                AllocationCounter allocationCounter) {
+        MonthYearController controller =
+                new MonthYearController(new HeadlessMonthYearWheel(), locale);
+        controller.setLocale(locale, monthTable);
+        controller.apply(trace.getSelectedMonth(), trace.getMinMonth(), trace.getMaxMonth(),
+                trace.getAvailableMonths());
+
+        ReplayClock clock = new ReplayClock();
+        DispatchCounter dispatchCounter = new DispatchCounter();
+        DateChangeDispatcher dispatcher = new DateChangeDispatcher(clock, dispatchCounter);
+        dispatcher.setMode(trace.getDispatchMode());
+
+        int size = trace.size();
+        long[] latencies = new long[size];
+        int changeCount = 0;
+        long allocatedBefore = allocationCounter != null
+                ? allocationCounter.getAllocatedBytes() : 0;
+        for (int i = 0; i < size; i++) {
+            // run the dispatches which became due before the event
+            clock.advanceBy(trace.getDelayMillis(i));
+            int spinner = trace.getSpinner(i);
+            if (spinner == PickerTrace.EVENT_SCROLL_IDLE) {
+                dispatcher.onScrollIdle();
+                continue;
+            }
+            long start = System.nanoTime();
+            controller.onValueChange(spinner, trace.getOldValue(i), trace.getNewValue(i));
+            dispatcher.onChange();
+            latencies[changeCount++] = System.nanoTime() - start;
+        }
+        long allocatedBytes = allocationCounter != null
+                ? allocationCounter.getAllocatedBytes() - allocatedBefore : -1;
+        clock.runPending();
+
+        latencies = Arrays.copyOf(latencies, changeCount);
+        Arrays.sort(latencies);
+        return new Report(latencies, dispatchCounter.mCount, allocatedBytes,
+                controller.getSelectedMonth());
+    }
+
+    /**
+     * Counts the bytes allocated by the current thread, such as {@code
+     * com.sun.management.ThreadMXBean#getThreadAllocatedBytes} on a JVM.
+     */
+    public interface AllocationCounter {
+
+        long getAllocatedBytes();
+    }
+
+    /**
+     * The measurements of a replay.
+     */
+    public static final class Report {
+
+        private final long[] mSortedLatencies;
+        private final int mDispatchCount;
+        private final long mAllocatedBytes;
+        private final int mSelectedMonth;
+
+        Report(long[] sortedLatencies, int dispatchCount, long allocatedBytes,
+               int selectedMonth) {
+            mSortedLatencies = sortedLatencies;
+            mDispatchCount = dispatchCount;
+            mAllocatedBytes = allocatedBytes;
+            mSelectedMonth = selectedMonth;
+        }
+
+        /**
+         * @return the number of replayed value changes
+         */
+        public int getEventCount() {
+            return mSortedLatencies.length;
+        }
+
+        /**
+         * @return the number of times the listener was called in the recorded dispatch mode, see
+         * {@link PickerTraceReplayer}
+         */
+        public int getDispatchCount() {
+            return mDispatchCount;
+        }
+
+        /**
+         * @return the selected month after the last change
+         */
+        public int getSelectedMonth() {
+            return mSelectedMonth;
+        }
+
+        /**
+         * @param percentile The percentile, between 0 and 100.
+         * @return the latency of an event at the percentile in nanoseconds
+         */
+        public long getLatencyNanos(double percentile) {
+            if (mSortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(mSortedLatencies.length * percentile / 100) - 1;
+            return mSortedLatencies[Math.max(0, Math.min(index, mSortedLatencies.length - 1))];
+        }
+
+        /**
+         * @return the average bytes allocated per event, or -1 if allocations were not measured
+         */
+        public double getAllocatedBytesPerEvent() {
+            if (mAllocatedBytes < 0) {
+                return -1;
+            }
+            return mSortedLatencies.length == 0 ? 0
+                    : (double) mAllocatedBytes / mSortedLatencies.length;
+        }
+
+        @Override
+        public String toString() {
+            return "events=" + getEventCount()
+                    + " p50=" + getLatencyNanos(50) + "ns"
+                    + " p90=" + getLatencyNanos(90) + "ns"
+                    + " p99=" + getLatencyNanos(99) + "ns"
+                    + " max=" + getLatencyNanos(100) + "ns"
+                    + " bytes/event=" + getAllocatedBytesPerEvent()
+                    + " dispatches=" + getDispatchCount();
+        }
+    }
+
+    /**
+     * Counts the listener calls of the replay.
+     */
+    private static final class DispatchCounter implements Runnable {
+
+        int mCount;
+
+        @Override
+        public void run() {
+            mCount++;
+        }
+    }
+
+    /**
+     * Runs the dispatches on a virtual clock advanced by the recorded delays. A dispatcher keeps
+     * at most one dispatch pending, so a single task is kept.
+     */
+    private static final class ReplayClock implements DateChangeDispatcher.Scheduler {
+
+        private long mNowMillis;
+        private Runnable mTask;
+        private long mTaskMillis;
+
+        @Override
+        public void postOnNextFrame(Runnable task) {
+            post(task, (mNowMillis / FRAME_MILLIS + 1) * FRAME_MILLIS);
+        }
+
+        @Override
+        public void postDelayed(Runnable task, long delayMillis) {
+            post(task, mNowMillis + delayMillis);
+        }
+
+        @Override
+        public void remove(Runnable task) {
+            if (mTask == task) {
+                mTask = null;
+            }
+        }
+
+        void advanceBy(long millis) {
+            mNowMillis += millis;
+            if (mTask != null && mTaskMillis <= mNowMillis) {
+                runTask();
+            }
+        }
+
+        void runPending() {
+            if (mTask != null) {
+                mNowMillis = Math.max(mNowMillis, mTaskMillis);
+                runTask();
+            }
+        }
+
+        private void post(Runnable task, long atMillis) {
+            if (mTask != null && mTask != task) {
+                throw new IllegalStateException("Only one pending task is supported.");
+            }
+            mTask = task;
+            mTaskMillis = atMillis;
+        }
+
+        private void runTask() {
+            Runnable task = mTask;
+            mTask = null;
+            task.run();
+        }
+    }
+}
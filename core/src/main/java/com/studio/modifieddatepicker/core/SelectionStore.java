@@ -0,0 +1,204 @@
+package com.studio.modifieddatepicker.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The selected month, its bounds and a version published as a single packed {@code long}, so that
+ * any thread can read a consistent snapshot without locks while a picker keeps changing it. A
+ * snapshot holds the selected, min and max months in 17 bits each, months outside of 0 to
+ * {@link #MAX_MONTH} (years 0 to 10922 of the Gregorian calendar) are clamped. The version counts
+ * the changes in 13 bits and wraps around.
+ * <p>
+ * There must be a single writer, typically the main thread through {@code
+ * SimpleDatePickerDelegate#setSelectionStore(SelectionStore)}. Readers waiting for a change with
+ * {@link #awaitChange(long)} are parked and woken by the writer without locks.
+ */
+public final class SelectionStore {
+
+    public static final int MAX_MONTH = (1 << 17) - 1;
+
+    private static final int MONTH_BITS = 17;
+    private static final int VERSION_BITS = 13;
+    private static final long MONTH_MASK = (1L << MONTH_BITS) - 1;
+    private static final long VERSION_MASK = (1L << VERSION_BITS) - 1;
+    private static final long MONTHS_MASK = (1L << (3 * MONTH_BITS)) - 1;
+
+    private static final int MAX_MONTH_SHIFT = 0;
+    private static final int MIN_MONTH_SHIFT = MONTH_BITS;
+    private static final int SELECTED_MONTH_SHIFT = 2 * MONTH_BITS;
+    private static final int VERSION_SHIFT = 3 * MONTH_BITS;
+
+    private final AtomicLong mState = new AtomicLong();
+    private final AtomicReference<Waiter> mWaiters = new AtomicReference<>();
+
+    // one waiter per thread: a waiter left queued by a timeout or an interrupt is reused by the
+    // next wait of its thread, so readers polling an idle store do not pile up waiters
+    private final ThreadLocal<Waiter> mWaiter = new ThreadLocal<Waiter>() {
+        @Override
+        protected Waiter initialValue() {
+            return new Waiter(Thread.currentThread());
+        }
+    };
+
+    /**
+     * Publishes a new selection and wakes the waiting readers, unless the selection did not
+     * change. Must only be called by the single writer.
+     *
+     * @param selectedMonth The selected month.
+     * @param minMonth      The min month.
+     * @param maxMonth      The max month.
+     */
+    public void publish(int selectedMonth, int minMonth, int maxMonth) {
+        long state = mState.get();
+        long months = pack(selectedMonth, SELECTED_MONTH_SHIFT) | pack(minMonth, MIN_MONTH_SHIFT)
+                | pack(maxMonth, MAX_MONTH_SHIFT);
+        if ((state & MONTHS_MASK) == months && getVersion(state) != 0) {
+            return;
+        }
+        long version = (getVersion(state) + 1) & VERSION_MASK;
+        if (version == 0) {
+            // version 0 means nothing was published yet
+            version = 1;
+        }
+        mState.set(version << VERSION_SHIFT | months);
+
+        // the state is written before the waiters are read and a waiter queues itself before it
+        // reads the state again, so either the waiter sees the new state or it is woken here
+        if (mWaiters.get() != null) {
+            Waiter waiter = mWaiters.getAndSet(null);
+            while (waiter != null) {
+                Waiter next = waiter.next;
+                waiter.queued = false;
+                LockSupport.unpark(waiter.thread);
+                waiter = next;
+            }
+        }
+    }
+
+    /**
+     * @return the current snapshot, read with the accessors of this class
+     */
+    public long getSnapshot() {
+        return mState.get();
+    }
+
+    /**
+     * Waits until a snapshot with another version than the given one is published.
+     *
+     * @param snapshot The snapshot last seen.
+     * @return the new snapshot
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long awaitChange(long snapshot) throws InterruptedException {
+        return await(snapshot, false, 0);
+    }
+
+    /**
+     * Waits until a snapshot with another version than the given one is published, or the
+     * timeout elapses.
+     *
+     * @param snapshot The snapshot last seen.
+     * @param timeout  The maximal time to wait.
+     * @param unit     The unit of the timeout.
+     * @return the new snapshot, or the current one with the same version if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long awaitChange(long snapshot, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return await(snapshot, true, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * @param snapshot A snapshot.
+     * @return the selected month of the snapshot
+     */
+    public static int getSelectedMonth(long snapshot) {
+        return (int) (snapshot >>> SELECTED_MONTH_SHIFT & MONTH_MASK);
+    }
+
+    /**
+     * @param snapshot A snapshot.
+     * @return the min month of the snapshot
+     */
+    public static int getMinMonth(long snapshot) {
+        return (int) (snapshot >>> MIN_MONTH_SHIFT & MONTH_MASK);
+    }
+
+    /**
+     * @param snapshot A snapshot.
+     * @return the max month of the snapshot
+     */
+    public static int getMaxMonth(long snapshot) {
+        return (int) (snapshot >>> MAX_MONTH_SHIFT & MONTH_MASK);
+    }
+
+    /**
+     * @param snapshot A snapshot.
+     * @return the version of the snapshot, 0 if nothing was published yet
+     */
+    public static int getVersion(long snapshot) {
+        return (int) (snapshot >>> VERSION_SHIFT & VERSION_MASK);
+    }
+
+    private long await(long snapshot, boolean timed, long deadlineNanos)
+            throws InterruptedException {
+        int version = getVersion(snapshot);
+        Waiter waiter = mWaiter.get();
+        while (true) {
+            long state = mState.get();
+            if (getVersion(state) != version) {
+                return state;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (!waiter.queued) {
+                // queue and read the state again before parking, see publish
+                waiter.queued = true;
+                Waiter head;
+                do {
+                    head = mWaiters.get();
+                    waiter.next = head;
+                } while (!mWaiters.compareAndSet(head, waiter));
+                continue;
+            }
+            if (timed) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    // the queued waiter is dropped by the next publish or reused by the next wait
+                    return state;
+                }
+                LockSupport.parkNanos(this, remainingNanos);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    // the number of queued waiters, for tests
+    int countWaiters() {
+        int count = 0;
+        for (Waiter waiter = mWaiters.get(); waiter != null; waiter = waiter.next) {
+            count++;
+        }
+        return count;
+    }
+
+    private static long pack(int month, int shift) {
+        return (long) Math.max(0, Math.min(MAX_MONTH, month)) << shift;
+    }
+
+    private static final class Waiter {
+
+        final Thread thread;
+        Waiter next;
+        volatile boolean queued;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.studio.modifieddatepicker.utils;
+
+import java.io.IOException;
+import java.text.DecimalFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * A suite of utilities for displaying {@link Calendar} and {@link Date}
+ * objects.
+ */
+public final class DateDisplayUtils {
+
+    /**
+     * Returned by {@link #parseMonthYear(CharSequence, int)} when the text is not a month and
+     * year.
+     */
+    public static final int INVALID_MONTH_YEAR = -1;
+
+    private static final String MONTH_YEAR_DISPLAY_PATTERN = "MM/yyyy";
+    private static final char MONTH_YEAR_SEPARATOR = '/';
+    private static final int MIN_YEAR_DIGITS = 4;
+
+    // keeps the year of the largest epoch-month within an int
+    private static final int MAX_YEAR_DIGITS = 8;
+    private static final int MAX_YEAR = 99999999;
+
+    private static final int[] POWERS_OF_TEN = {
+            1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    // SimpleDateFormat is not thread-safe, so every thread keeps its own formatter
+    private static final ThreadLocal<CachedFormat> sCachedFormat = new ThreadLocal<>();
+
+    // the range of the label table published as one object, so that a reader never sees the start
+    // of one range with the end of another
+    private static volatile YearRange sCachedYearRange;
+    private static volatile LabelTable sLabelTable;
+    private static volatile ZeroDigit sZeroDigit;
+
+    private DateDisplayUtils() {
+        // hide constructor
+    }
+
+    /**
+     * Formats the month and year. If provided a separator then will be displayed as MM/yyyy or else
+     * MMyyyy
+     *
+     * @param year        The year that was set.
+     * @param monthOfYear The month that was set (0-11) for compatibility with {@link
+     *                    Calendar}.
+     * @return the formatted string
+     */
+    public static String formatMonthYear(int year, int monthOfYear) {
+        Locale locale = Locale.getDefault();
+        LabelTable table = getLabelTable(locale);
+        if (table != null && table.contains(year, monthOfYear)) {
+            return table.labels[EpochMonths.of(year - table.startYear, monthOfYear)];
+        }
+        return getFormat(locale, MONTH_YEAR_DISPLAY_PATTERN).format(year, monthOfYear);
+    }
+
+    /**
+     * Appends the month and year as MM/yyyy using the digits of the default locale, without
+     * allocating.
+     *
+     * @param builder     The builder to append to.
+     * @param year        The year, 0 to 99999999 so that it can be parsed back.
+     * @param monthOfYear The month (0-11) for compatibility with {@link Calendar}.
+     * @return the builder
+     */
+    public static StringBuilder appendMonthYear(StringBuilder builder, int year, int monthOfYear) {
+        checkMonthYear(year, monthOfYear);
+        char zero = getZeroDigit(Locale.getDefault());
+        int yearWidth = getYearWidth(year);
+        for (int i = 0; i < yearWidth + 3; i++) {
+            builder.append(getMonthYearChar(i, year, monthOfYear, yearWidth, zero));
+        }
+        return builder;
+    }
+
+    /**
+     * Appends the month and year as MM/yyyy using the digits of the default locale.
+     *
+     * @param appendable  The appendable to append to.
+     * @param year        The year, 0 to 99999999 so that it can be parsed back.
+     * @param monthOfYear The month (0-11) for compatibility with {@link Calendar}.
+     * @return the appendable
+     * @throws IOException if the appendable fails
+     */
+    public static Appendable appendMonthYear(Appendable appendable, int year, int monthOfYear)
+            throws IOException {
+        checkMonthYear(year, monthOfYear);
+        char zero = getZeroDigit(Locale.getDefault());
+        int yearWidth = getYearWidth(year);
+        for (int i = 0; i < yearWidth + 3; i++) {
+            appendable.append(getMonthYearChar(i, year, monthOfYear, yearWidth, zero));
+        }
+        return appendable;
+    }
+
+    /**
+     * Writes the month and year as MM/yyyy using the digits of the default locale into the
+     * buffer, which needs room for at least 7 chars, or more for years above 9999.
+     *
+     * @param buffer      The buffer to write to.
+     * @param offset      The index to start writing at.
+     * @param year        The year, 0 to 99999999 so that it can be parsed back.
+     * @param monthOfYear The month (0-11) for compatibility with {@link Calendar}.
+     * @return the index after the last written char
+     */
+    public static int appendMonthYear(char[] buffer, int offset, int year, int monthOfYear) {
+        checkMonthYear(year, monthOfYear);
+        char zero = getZeroDigit(Locale.getDefault());
+        int yearWidth = getYearWidth(year);
+        if (offset < 0 || offset + yearWidth + 3 > buffer.length) {
+            throw new IndexOutOfBoundsException("The buffer is too small.");
+        }
+        for (int i = 0; i < yearWidth + 3; i++) {
+            buffer[offset++] = getMonthYearChar(i, year, monthOfYear, yearWidth, zero);
+        }
+        return offset;
+    }
+
+    /**
+     * Parses a month and year written as MM/yyyy, the month may have a single digit and the year
+     * 4 to 8 digits. Digits of any locale are accepted. Parsing stops after the last digit of
+     * the year, a year with more digits is invalid rather than cut off.
+     *
+     * @param text   The text to parse.
+     * @param offset The index to start parsing at.
+     * @return the month as an epoch-month, see {@link EpochMonths}, or {@link
+     * #INVALID_MONTH_YEAR}
+     */
+    public static int parseMonthYear(CharSequence text, int offset) {
+        int length = text.length();
+        int index = offset;
+        int month = 0;
+        while (index < length && index - offset < 2) {
+            int digit = Character.digit(text.charAt(index), 10);
+            if (digit < 0) {
+                break;
+            }
+            month = month * 10 + digit;
+            index++;
+        }
+        if (index == offset || month < 1 || month > EpochMonths.MONTHS_PER_YEAR
+                || index == length || text.charAt(index) != MONTH_YEAR_SEPARATOR) {
+            return INVALID_MONTH_YEAR;
+        }
+        int yearStart = ++index;
+        int year = 0;
+        while (index < length && index - yearStart < MAX_YEAR_DIGITS) {
+            int digit = Character.digit(text.charAt(index), 10);
+            if (digit < 0) {
+                break;
+            }
+            year = year * 10 + digit;
+            index++;
+        }
+        if (index - yearStart < MIN_YEAR_DIGITS
+                || (index < length && Character.digit(text.charAt(index), 10) >= 0)) {
+            return INVALID_MONTH_YEAR;
+        }
+        return EpochMonths.of(year, month - 1);
+    }
+
+    /**
+     * Enables a table of preformatted labels for the years in the inclusive range, so that
+     * {@link #formatMonthYear(int, int)} returns a shared string instead of formatting. The
+     * table is built lazily on the next call and rebuilt when the default locale changes.
+     *
+     * @param startYear The first year of the table.
+     * @param endYear   The last year of the table.
+     */
+    public static void setCachedYearRange(int startYear, int endYear) {
+        if (endYear < startYear) {
+            throw new IllegalArgumentException("The end year should not be less than start year.");
+        }
+        sCachedYearRange = new YearRange(startYear, endYear);
+        sLabelTable = null;
+    }
+
+    /**
+     * Drops the table of preformatted labels, if such.
+     */
+    public static void clearCachedYearRange() {
+        sCachedYearRange = null;
+        sLabelTable = null;
+    }
+
+    private static LabelTable getLabelTable(Locale locale) {
+        YearRange range = sCachedYearRange;
+        if (range == null) {
+            return null;
+        }
+        LabelTable table = sLabelTable;
+        if (table == null || !table.matches(locale, range.startYear, range.endYear)) {
+            // racing threads build equal tables, whichever is published last wins
+            table = new LabelTable(locale, range.startYear, range.endYear,
+                    getFormat(locale, MONTH_YEAR_DISPLAY_PATTERN));
+            sLabelTable = table;
+        }
+        return table;
+    }
+
+    private static char getZeroDigit(Locale locale) {
+        ZeroDigit zeroDigit = sZeroDigit;
+        if (zeroDigit == null || !zeroDigit.locale.equals(locale)) {
+            zeroDigit = new ZeroDigit(locale);
+            sZeroDigit = zeroDigit;
+        }
+        return zeroDigit.zero;
+    }
+
+    private static int getYearWidth(int year) {
+        int width = MIN_YEAR_DIGITS;
+        while (width < POWERS_OF_TEN.length && year >= POWERS_OF_TEN[width]) {
+            width++;
+        }
+        return width;
+    }
+
+    /**
+     * Gets the char at the index of the month and year written as MM/yyyy.
+     */
+    private static char getMonthYearChar(int index, int year, int monthOfYear, int yearWidth,
+                                         char zero) {
+        switch (index) {
+            case 0:
+                return (char) (zero + (monthOfYear + 1) / 10);
+            case 1:
+                return (char) (zero + (monthOfYear + 1) % 10);
+            case 2:
+                return MONTH_YEAR_SEPARATOR;
+            default:
+                int power = yearWidth - (index - 3) - 1;
+                return (char) (zero + year / POWERS_OF_TEN[power] % 10);
+        }
+    }
+
+    private static void checkMonthYear(int year, int monthOfYear) {
+        if (year < 0 || year > MAX_YEAR || monthOfYear < 0
+                || monthOfYear >= EpochMonths.MONTHS_PER_YEAR) {
+            throw new IllegalArgumentException("Invalid month " + monthOfYear + " of " + year);
+        }
+    }
+
+    private static CachedFormat getFormat(Locale locale, String pattern) {
+        CachedFormat format = sCachedFormat.get();
+        if (format == null || !format.matches(locale, pattern)) {
+            format = new CachedFormat(locale, pattern);
+            sCachedFormat.set(format);
+        }
+        return format;
+    }
+
+    /**
+     * A formatter and its calendar confined to a single thread.
+     */
+    private static final class CachedFormat {
+
+        private final Locale mLocale;
+        private final String mPattern;
+        private final Calendar mCalendar;
+        private final SimpleDateFormat mFormat;
+
+        CachedFormat(Locale locale, String pattern) {
+            mLocale = locale;
+            mPattern = pattern;
+            mCalendar = Calendar.getInstance(locale);
+            mFormat = new SimpleDateFormat(pattern, locale);
+        }
+
+        boolean matches(Locale locale, String pattern) {
+            return mLocale.equals(locale) && mPattern.equals(pattern);
+        }
+
+        String format(int year, int monthOfYear) {
+            mCalendar.clear();
+            mCalendar.set(Calendar.YEAR, year);
+            mCalendar.set(Calendar.MONTH, monthOfYear);
+            return mFormat.format(mCalendar.getTime());
+        }
+    }
+
+    /**
+     * The zero digit of a locale, loading the symbols of a locale is too slow to do per call.
+     */
+    private static final class ZeroDigit {
+
+        final Locale locale;
+        final char zero;
+
+        ZeroDigit(Locale locale) {
+            this.locale = locale;
+            zero = DecimalFormatSymbols.getInstance(locale).getZeroDigit();
+        }
+    }
+
+    /**
+     * An immutable inclusive range of years.
+     */
+    private static final class YearRange {
+
+        final int startYear;
+        final int endYear;
+
+        YearRange(int startYear, int endYear) {
+            this.startYear = startYear;
+            this.endYear = endYear;
+        }
+    }
+
+    /**
+     * Immutable preformatted labels for every month of a range of years.
+     */
+    private static final class LabelTable {
+
+        final Locale locale;
+        final int startYear;
+        final int endYear;
+        final String[] labels;
+
+        LabelTable(Locale locale, int startYear, int endYear, CachedFormat format) {
+            this.locale = locale;
+            this.startYear = startYear;
+            this.endYear = endYear;
+            labels = new String[EpochMonths.of(endYear - startYear + 1, 0)];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = format.format(startYear + EpochMonths.year(i), EpochMonths.month(i))
+                        .intern();
+            }
+        }
+
+        boolean matches(Locale locale, int startYear, int endYear) {
+            return this.locale.equals(locale) && this.startYear == startYear
+                    && this.endYear == endYear;
+        }
+
+        boolean contains(int year, int monthOfYear) {
+            return year >= startYear && year <= endYear
+                    && monthOfYear >= 0 && monthOfYear < EpochMonths.MONTHS_PER_YEAR;
+        }
+    }
+}
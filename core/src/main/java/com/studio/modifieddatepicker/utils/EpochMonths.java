@@ -0,0 +1,83 @@
+package com.studio.modifieddatepicker.utils;
+
+import java.util.Calendar;
+
+/**
+ * A suite of utilities for working with months packed into a single int, counted from January
+ * of year 0. Packed months compare, clamp and step with plain integer math, so they can be used
+ * on hot paths instead of {@link Calendar} instances.
+ */
+public final class EpochMonths {
+
+    public static final int MONTHS_PER_YEAR = 12;
+
+    private EpochMonths() {
+        // hide constructor
+    }
+
+    /**
+     * Packs the year and month into an epoch-month.
+     *
+     * @param year        The year.
+     * @param monthOfYear The month (0-11) for compatibility with {@link Calendar}.
+     * @return the epoch-month
+     */
+    public static int of(int year, int monthOfYear) {
+        return year * MONTHS_PER_YEAR + monthOfYear;
+    }
+
+    /**
+     * Packs the year and month currently set on the calendar into an epoch-month.
+     *
+     * @param calendar The calendar to read.
+     * @return the epoch-month
+     */
+    public static int of(Calendar calendar) {
+        return of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH));
+    }
+
+    /**
+     * @param epochMonth The epoch-month.
+     * @return the year of the epoch-month
+     */
+    public static int year(int epochMonth) {
+        int year = epochMonth / MONTHS_PER_YEAR;
+        return epochMonth < 0 && year * MONTHS_PER_YEAR != epochMonth ? year - 1 : year;
+    }
+
+    /**
+     * @param epochMonth The epoch-month.
+     * @return the month (0-11) of the epoch-month
+     */
+    public static int month(int epochMonth) {
+        return epochMonth - year(epochMonth) * MONTHS_PER_YEAR;
+    }
+
+    /**
+     * Replaces the year of the epoch-month keeping its month.
+     *
+     * @param epochMonth The epoch-month.
+     * @param year       The new year.
+     * @return the epoch-month in the given year
+     */
+    public static int withYear(int epochMonth, int year) {
+        return of(year, month(epochMonth));
+    }
+
+    /**
+     * Clamps the epoch-month into the inclusive range.
+     *
+     * @param epochMonth The epoch-month.
+     * @param min        The inclusive lower bound.
+     * @param max        The inclusive upper bound.
+     * @return the clamped epoch-month
+     */
+    public static int clamp(int epochMonth, int min, int max) {
+        if (epochMonth < min) {
+            return min;
+        } else if (epochMonth > max) {
+            return max;
+        }
+        return epochMonth;
+    }
+}
@@ -0,0 +1,205 @@
+package com.studio.modifieddatepicker.utils;
+
+import java.util.Arrays;
+
+/**
+ * A bitset of available months over an inclusive range of epoch-months, see {@link EpochMonths}.
+ * Months outside of the range are unavailable. Lookups test a single bit and searches scan whole
+ * words, so large masks stay cheap to query.
+ */
+public final class MonthMask {
+
+    /**
+     * Returned by the searches when there is no available month.
+     */
+    public static final int NO_MONTH = Integer.MIN_VALUE;
+
+    private final int mFirstMonth;
+    private final int mLastMonth;
+    private final long[] mWords;
+
+    /**
+     * Creates a mask with every month of the range available.
+     *
+     * @param firstMonth The first month of the range as an epoch-month.
+     * @param lastMonth  The last month of the range as an epoch-month.
+     */
+    public MonthMask(int firstMonth, int lastMonth) {
+        if (lastMonth < firstMonth) {
+            throw new IllegalArgumentException("The last month should not be less than first.");
+        }
+        mFirstMonth = firstMonth;
+        mLastMonth = lastMonth;
+        mWords = new long[((lastMonth - firstMonth) >>> 6) + 1];
+        setRange(firstMonth, lastMonth, true);
+    }
+
+    /**
+     * Creates a mask from the words of {@link #toWords()}.
+     *
+     * @param firstMonth The first month of the range as an epoch-month.
+     * @param lastMonth  The last month of the range as an epoch-month.
+     * @param words      The words of the mask.
+     */
+    public MonthMask(int firstMonth, int lastMonth, long[] words) {
+        if (lastMonth < firstMonth || words.length != ((lastMonth - firstMonth) >>> 6) + 1) {
+            throw new IllegalArgumentException("The words do not match the range.");
+        }
+        mFirstMonth = firstMonth;
+        mLastMonth = lastMonth;
+        mWords = words.clone();
+    }
+
+    public int getFirstMonth() {
+        return mFirstMonth;
+    }
+
+    public int getLastMonth() {
+        return mLastMonth;
+    }
+
+    /**
+     * @return a copy of the words of the mask
+     */
+    public long[] toWords() {
+        return mWords.clone();
+    }
+
+    /**
+     * @param month The month as an epoch-month.
+     * @return true if the month is inside of the range and available
+     */
+    public boolean isAvailable(int month) {
+        if (month < mFirstMonth || month > mLastMonth) {
+            return false;
+        }
+        int bit = month - mFirstMonth;
+        return (mWords[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Marks the month as available or not, ignoring months outside of the range.
+     *
+     * @param month     The month as an epoch-month.
+     * @param available Whether the month is available.
+     */
+    public void setAvailable(int month, boolean available) {
+        setRange(month, month, available);
+    }
+
+    /**
+     * Marks the inclusive range of months as available or not, ignoring months outside of the
+     * range of the mask.
+     *
+     * @param from      The first month as an epoch-month.
+     * @param to        The last month as an epoch-month.
+     * @param available Whether the months are available.
+     */
+    public void setRange(int from, int to, boolean available) {
+        from = Math.max(from, mFirstMonth) - mFirstMonth;
+        to = Math.min(to, mLastMonth) - mFirstMonth;
+        if (to < from) {
+            return;
+        }
+        int fromWord = from >>> 6;
+        int toWord = to >>> 6;
+        for (int i = fromWord; i <= toWord; i++) {
+            long mask = -1L;
+            if (i == fromWord) {
+                mask &= -1L << from;
+            }
+            if (i == toWord) {
+                mask &= -1L >>> (63 - (to & 63));
+            }
+            if (available) {
+                mWords[i] |= mask;
+            } else {
+                mWords[i] &= ~mask;
+            }
+        }
+    }
+
+    /**
+     * @param from The month to start from as an epoch-month.
+     * @return the first available month not before from, or {@link #NO_MONTH}
+     */
+    public int nextAvailable(int from) {
+        if (from > mLastMonth) {
+            return NO_MONTH;
+        }
+        int bit = Math.max(from, mFirstMonth) - mFirstMonth;
+        int index = bit >>> 6;
+        long word = mWords[index] & (-1L << bit);
+        while (word == 0) {
+            if (++index == mWords.length) {
+                return NO_MONTH;
+            }
+            word = mWords[index];
+        }
+        int month = mFirstMonth + (index << 6) + Long.numberOfTrailingZeros(word);
+        return month <= mLastMonth ? month : NO_MONTH;
+    }
+
+    /**
+     * @param from The month to start from as an epoch-month.
+     * @return the last available month not after from, or {@link #NO_MONTH}
+     */
+    public int previousAvailable(int from) {
+        if (from < mFirstMonth) {
+            return NO_MONTH;
+        }
+        int bit = Math.min(from, mLastMonth) - mFirstMonth;
+        int index = bit >>> 6;
+        long word = mWords[index] & (-1L >>> (63 - (bit & 63)));
+        while (word == 0) {
+            if (--index < 0) {
+                return NO_MONTH;
+            }
+            word = mWords[index];
+        }
+        return mFirstMonth + (index << 6) + 63 - Long.numberOfLeadingZeros(word);
+    }
+
+    /**
+     * Finds the available month nearest to the month in the direction, falling back to the
+     * opposite direction, inside of the inclusive bounds.
+     *
+     * @param month     The month as an epoch-month.
+     * @param direction The direction to search first, negative to search backwards.
+     * @param min       The inclusive lower bound as an epoch-month.
+     * @param max       The inclusive upper bound as an epoch-month.
+     * @return the available month, or {@link #NO_MONTH}
+     */
+    public int findAvailable(int month, int direction, int min, int max) {
+        int forward = nextAvailable(month);
+        if (forward > max) {
+            forward = NO_MONTH;
+        }
+        int backward = previousAvailable(month);
+        if (backward < min) {
+            backward = NO_MONTH;
+        }
+        if (direction < 0) {
+            return backward != NO_MONTH ? backward : forward;
+        }
+        return forward != NO_MONTH ? forward : backward;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MonthMask)) {
+            return false;
+        }
+        MonthMask other = (MonthMask) o;
+        return mFirstMonth == other.mFirstMonth && mLastMonth == other.mLastMonth
+                && Arrays.equals(mWords, other.mWords);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * mFirstMonth + mLastMonth) + Arrays.hashCode(mWords);
+    }
+}
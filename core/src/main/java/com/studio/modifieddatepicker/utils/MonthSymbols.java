@@ -0,0 +1,190 @@
+package com.studio.modifieddatepicker.utils;
+
+import java.text.DateFormatSymbols;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable short month names of a locale, shared process-wide. Loading the symbols of a locale
+ * for the first time is slow, so the symbols are cached per locale and number of months for the
+ * most recently used ones and can be loaded ahead of time with {@link #prewarm(Executor, Locale)}.
+ */
+public final class MonthSymbols {
+
+    private static final int MAX_CACHED_LOCALES = 8;
+
+    private static final Map<Key, MonthSymbols> sCache =
+            new LinkedHashMap<Key, MonthSymbols>(MAX_CACHED_LOCALES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, MonthSymbols> eldest) {
+                    return size() > MAX_CACHED_LOCALES;
+                }
+            };
+
+    private final Locale mLocale;
+    private final String[] mShortMonths;
+    private final int mNumberOfMonths;
+    private final boolean mNumericMonths;
+
+    // lazily built label windows indexed by from * (mNumberOfMonths + 1) + to
+    private final AtomicReferenceArray<String[]> mRanges;
+
+    private MonthSymbols(Locale locale, int numberOfMonths) {
+        mLocale = locale;
+        mNumberOfMonths = numberOfMonths;
+
+        String[] shortMonths = DateFormatSymbols.getInstance(locale).getShortMonths();
+        mNumericMonths = Character.isDigit(shortMonths[Calendar.JANUARY].charAt(0));
+        if (mNumericMonths) {
+            // We're in a locale where a date should either be all-numeric, or all-text.
+            // All-text would require custom NumberPicker formatters for day and year.
+            shortMonths = new String[mNumberOfMonths];
+        } else if (shortMonths.length < mNumberOfMonths) {
+            shortMonths = Arrays.copyOf(shortMonths, mNumberOfMonths);
+        }
+        for (int i = 0; i < mNumberOfMonths; ++i) {
+            // calendar systems with more months than the symbols have get numbers for the rest
+            if (shortMonths[i] == null || shortMonths[i].isEmpty()) {
+                shortMonths[i] = String.format(locale, "%d", i + 1);
+            }
+        }
+        mShortMonths = shortMonths;
+        mRanges = new AtomicReferenceArray<>((mNumberOfMonths + 1) * (mNumberOfMonths + 1));
+    }
+
+    /**
+     * Gets the symbols of the locale, loading them if they are not cached.
+     *
+     * @param locale The locale.
+     * @return the shared symbols
+     */
+    public static MonthSymbols get(Locale locale) {
+        return get(locale, MonthTable.forLocale(locale).getMaxMonthsInYear());
+    }
+
+    /**
+     * Gets the symbols of the locale for a calendar system with the given number of months,
+     * loading them if they are not cached. Pickers of the same locale with different numbers of
+     * months share the cache without evicting each other.
+     *
+     * @param locale         The locale.
+     * @param numberOfMonths The most months a year can have, see
+     *                       {@link MonthTable#getMaxMonthsInYear()}.
+     * @return the shared symbols
+     */
+    public static MonthSymbols get(Locale locale, int numberOfMonths) {
+        Key key = new Key(locale, numberOfMonths);
+        MonthSymbols symbols;
+        synchronized (sCache) {
+            symbols = sCache.get(key);
+        }
+        if (symbols == null) {
+            // load outside of the lock, a racing load of the same locale is harmless
+            symbols = new MonthSymbols(locale, numberOfMonths);
+            synchronized (sCache) {
+                MonthSymbols loaded = sCache.get(key);
+                if (loaded != null) {
+                    // keep the symbols handed out first, their label arrays may be compared
+                    return loaded;
+                }
+                sCache.put(key, symbols);
+            }
+        }
+        return symbols;
+    }
+
+    /**
+     * Loads the symbols of the locale on the executor, so that a picker created later on the
+     * main thread finds them cached.
+     *
+     * @param executor The executor to load on, should not be the main thread.
+     * @param locale   The locale to load.
+     */
+    public static void prewarm(Executor executor, final Locale locale) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                get(locale);
+            }
+        });
+    }
+
+    public Locale getLocale() {
+        return mLocale;
+    }
+
+    /**
+     * @return the most months a year of the calendar system can have
+     */
+    public int getNumberOfMonths() {
+        return mNumberOfMonths;
+    }
+
+    /**
+     * @return true if the locale displays months as numbers
+     */
+    public boolean isNumericMonths() {
+        return mNumericMonths;
+    }
+
+    /**
+     * @param monthOfYear The month of the year, starting at 0.
+     * @return the short name of the month
+     */
+    public String getShortMonth(int monthOfYear) {
+        return mShortMonths[monthOfYear];
+    }
+
+    /**
+     * Gets the short month names of the range. The array is shared by every caller asking for
+     * the same range and must not be modified.
+     *
+     * @param from The first month, inclusive.
+     * @param to   The last month, exclusive.
+     * @return the shared array with the short month names
+     */
+    public String[] getRange(int from, int to) {
+        if (from < 0 || to > mNumberOfMonths || from > to) {
+            throw new IndexOutOfBoundsException("Invalid month range " + from + ".." + to);
+        }
+        int index = from * (mNumberOfMonths + 1) + to;
+        String[] range = mRanges.get(index);
+        if (range == null) {
+            range = Arrays.copyOfRange(mShortMonths, from, to);
+            if (!mRanges.compareAndSet(index, null, range)) {
+                range = mRanges.get(index);
+            }
+        }
+        return range;
+    }
+
+    private static final class Key {
+
+        final Locale locale;
+        final int numberOfMonths;
+
+        Key(Locale locale, int numberOfMonths) {
+            this.locale = locale;
+            this.numberOfMonths = numberOfMonths;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return numberOfMonths == key.numberOfMonths && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return locale.hashCode() * 31 + numberOfMonths;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.studio.modifieddatepicker.utils;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Precomputed month counts of a calendar system, mapping a year and month to a month index and
+ * back with integer math. Indices use a fixed stride of the most months any year can have, so in
+ * calendar systems where some years are shorter the trailing months of those years are skipped.
+ * For the Gregorian calendar the month index is the epoch-month of {@link EpochMonths}.
+ * Tables are immutable and shared process-wide.
+ */
+public final class MonthTable {
+
+    public static final MonthTable GREGORIAN = new MonthTable(EpochMonths.MONTHS_PER_YEAR, 0, null);
+
+    private static final int MAX_CACHED_LOCALES = 8;
+
+    // years around the current year for which irregular month counts are tabulated
+    private static final int TABLE_YEARS = 1000;
+
+    private static final Map<Locale, MonthTable> sCache =
+            new LinkedHashMap<Locale, MonthTable>(MAX_CACHED_LOCALES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Locale, MonthTable> eldest) {
+                    return size() > MAX_CACHED_LOCALES;
+                }
+            };
+
+    private final int mStride;
+    private final int mFirstYear;
+    private final byte[] mMonthsInYear;
+
+    private MonthTable(int stride, int firstYear, byte[] monthsInYear) {
+        mStride = stride;
+        mFirstYear = firstYear;
+        mMonthsInYear = monthsInYear;
+    }
+
+    /**
+     * Gets the table of the calendar system of the locale, building it if it is not cached.
+     *
+     * @param locale The locale.
+     * @return the shared table
+     */
+    public static MonthTable forLocale(Locale locale) {
+        MonthTable table;
+        synchronized (sCache) {
+            table = sCache.get(locale);
+        }
+        if (table == null) {
+            table = forCalendar(Calendar.getInstance(locale));
+            synchronized (sCache) {
+                sCache.put(locale, table);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Builds the table of the calendar system of the calendar. Irregular month counts are
+     * tabulated for {@value #TABLE_YEARS} years around the year set on the calendar, years
+     * outside of those are assumed to have the most months.
+     *
+     * @param calendar The calendar, its fields are changed.
+     * @return the table
+     */
+    public static MonthTable forCalendar(Calendar calendar) {
+        int stride = calendar.getMaximum(Calendar.MONTH) + 1;
+        if (calendar instanceof GregorianCalendar
+                || calendar.getLeastMaximum(Calendar.MONTH) + 1 == stride) {
+            return stride == EpochMonths.MONTHS_PER_YEAR
+                    ? GREGORIAN : new MonthTable(stride, 0, null);
+        }
+        int firstYear = Math.max(calendar.getActualMinimum(Calendar.YEAR),
+                calendar.get(Calendar.YEAR) - TABLE_YEARS / 2);
+        byte[] monthsInYear = new byte[TABLE_YEARS];
+        for (int i = 0; i < TABLE_YEARS; i++) {
+            calendar.clear();
+            calendar.set(Calendar.YEAR, firstYear + i);
+            monthsInYear[i] = (byte) (calendar.getActualMaximum(Calendar.MONTH) + 1);
+        }
+        return new MonthTable(stride, firstYear, monthsInYear);
+    }
+
+    /**
+     * @return the most months any year can have
+     */
+    public int getMaxMonthsInYear() {
+        return mStride;
+    }
+
+    /**
+     * @param year The year.
+     * @return the number of months of the year
+     */
+    public int getMonthsInYear(int year) {
+        int index = year - mFirstYear;
+        if (mMonthsInYear == null || index < 0 || index >= mMonthsInYear.length) {
+            return mStride;
+        }
+        return mMonthsInYear[index];
+    }
+
+    /**
+     * @param year        The year.
+     * @param monthOfYear The month of the year, starting at 0.
+     * @return the month index
+     */
+    public int toIndex(int year, int monthOfYear) {
+        return year * mStride + monthOfYear;
+    }
+
+    /**
+     * Gets the month index of a month of the year, rolling months outside of the year over into
+     * the neighbouring years, as they do when the month column of the picker wraps.
+     *
+     * @param year        The year.
+     * @param monthOfYear The month of the year, starting at 0, may be outside of the year.
+     * @return the month index of an existing month
+     */
+    public int rollOver(int year, int monthOfYear) {
+        if (mMonthsInYear == null) {
+            // every year has the same months, the stride rolls them over
+            return toIndex(year, monthOfYear);
+        }
+        while (monthOfYear >= getMonthsInYear(year)) {
+            monthOfYear -= getMonthsInYear(year);
+            year++;
+        }
+        while (monthOfYear < 0) {
+            year--;
+            monthOfYear += getMonthsInYear(year);
+        }
+        return toIndex(year, monthOfYear);
+    }
+
+    /**
+     * @param index The month index.
+     * @return the year of the month index
+     */
+    public int getYear(int index) {
+        int year = index / mStride;
+        return index < 0 && year * mStride != index ? year - 1 : year;
+    }
+
+    /**
+     * @param index The month index.
+     * @return the month of the year of the month index, starting at 0
+     */
+    public int getMonth(int index) {
+        return index - getYear(index) * mStride;
+    }
+
+    /**
+     * Moves the month index to another year keeping its month, or the last month of the year if
+     * the year is shorter.
+     *
+     * @param index The month index.
+     * @param year  The new year.
+     * @return the month index in the given year
+     */
+    public int withYear(int index, int year) {
+        return toIndex(year, Math.min(getMonth(index), getMonthsInYear(year) - 1));
+    }
+
+    /**
+     * Counts the months from one month index to another, skipping the indices past the end of
+     * shorter years.
+     *
+     * @param fromIndex The month index of an existing month.
+     * @param toIndex   The month index of an existing month.
+     * @return the number of months, negative if the to index is before the from index
+     */
+    public int monthsBetween(int fromIndex, int toIndex) {
+        if (toIndex < fromIndex) {
+            return -monthsBetween(toIndex, fromIndex);
+        }
+        int months = toIndex - fromIndex;
+        if (mMonthsInYear != null) {
+            for (int year = getYear(fromIndex), toYear = getYear(toIndex); year < toYear; year++) {
+                months -= mStride - getMonthsInYear(year);
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Moves a month index past the end of a shorter year onto an existing month.
+     *
+     * @param index     The month index.
+     * @param direction Negative to move onto the last month of the year, otherwise onto the
+     *                  first month of the next year.
+     * @return the month index of an existing month
+     */
+    public int normalize(int index, int direction) {
+        if (mMonthsInYear == null) {
+            return index;
+        }
+        int year = getYear(index);
+        int monthsInYear = getMonthsInYear(year);
+        if (getMonth(index) < monthsInYear) {
+            return index;
+        }
+        return direction < 0 ? toIndex(year, monthsInYear - 1) : toIndex(year + 1, 0);
+    }
+}
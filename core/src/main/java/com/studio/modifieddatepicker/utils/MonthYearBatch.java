@@ -0,0 +1,399 @@
+package com.studio.modifieddatepicker.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A suite of utilities applying the min and max rules of the picker to many months at once.
+ * Results are the same as selecting each month in a picker of the same {@link MonthTable}, the
+ * methods without a table use the Gregorian calendar. Nothing is allocated per month.
+ * <p>
+ * Years and months are read as {@link MonthTable#rollOver(int, int)} does: months outside of the
+ * year roll over into the neighbouring years, as they do when the month column of the picker
+ * wraps. Month indices past the end of a shorter year move onto the first month of the next
+ * year, as the picker selects them. Both clamp and validate follow these rules, so a month is
+ * valid exactly when clamping leaves it on the same month index.
+ */
+public final class MonthYearBatch {
+
+    // inputs smaller than this are not worth splitting, a multiple of the bits per word
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private MonthYearBatch() {
+        // hide constructor
+    }
+
+    /**
+     * Clamps the epoch-months in place into the inclusive range.
+     *
+     * @param epochMonths The epoch-months, see {@link EpochMonths}.
+     * @param minMonth    The min month as an epoch-month.
+     * @param maxMonth    The max month as an epoch-month.
+     */
+    public static void clamp(int[] epochMonths, int minMonth, int maxMonth) {
+        clamp(MonthTable.GREGORIAN, epochMonths, minMonth, maxMonth);
+    }
+
+    /**
+     * Clamps the month indices in place into the inclusive range.
+     *
+     * @param table    The table of the months.
+     * @param months   The month indices of the table.
+     * @param minMonth The min month index.
+     * @param maxMonth The max month index.
+     */
+    public static void clamp(MonthTable table, int[] months, int minMonth, int maxMonth) {
+        checkRange(minMonth, maxMonth);
+        clamp(table, months, 0, months.length, minMonth, maxMonth);
+    }
+
+    /**
+     * Clamps the years and months in place into the inclusive range. Months outside of 0-11 roll
+     * over into the neighbouring years, as they do in the picker.
+     *
+     * @param years    The years.
+     * @param months   The months (0-11) for compatibility with {@link java.util.Calendar}.
+     * @param minMonth The min month as an epoch-month.
+     * @param maxMonth The max month as an epoch-month.
+     */
+    public static void clamp(int[] years, int[] months, int minMonth, int maxMonth) {
+        clamp(MonthTable.GREGORIAN, years, months, minMonth, maxMonth);
+    }
+
+    /**
+     * Clamps the years and months in place into the inclusive range. Months outside of the year
+     * roll over into the neighbouring years, as they do in the picker.
+     *
+     * @param table    The table of the months.
+     * @param years    The years.
+     * @param months   The months of the year, starting at 0.
+     * @param minMonth The min month index.
+     * @param maxMonth The max month index.
+     */
+    public static void clamp(MonthTable table, int[] years, int[] months, int minMonth,
+                             int maxMonth) {
+        checkRange(minMonth, maxMonth);
+        checkSameLength(years, months);
+        clamp(table, years, months, 0, years.length, minMonth, maxMonth);
+    }
+
+    /**
+     * Clamps the epoch-months in place, splitting large inputs across the pool.
+     *
+     * @see #clamp(int[], int, int)
+     */
+    public static void clamp(ForkJoinPool pool, int[] epochMonths, int minMonth, int maxMonth) {
+        clamp(pool, MonthTable.GREGORIAN, epochMonths, minMonth, maxMonth);
+    }
+
+    /**
+     * Clamps the month indices in place, splitting large inputs across the pool.
+     *
+     * @see #clamp(MonthTable, int[], int, int)
+     */
+    public static void clamp(ForkJoinPool pool, MonthTable table, int[] months, int minMonth,
+                             int maxMonth) {
+        checkRange(minMonth, maxMonth);
+        pool.invoke(new ClampTask(table, months, null, 0, months.length, minMonth, maxMonth));
+    }
+
+    /**
+     * Clamps the years and months in place, splitting large inputs across the pool.
+     *
+     * @see #clamp(int[], int[], int, int)
+     */
+    public static void clamp(ForkJoinPool pool, int[] years, int[] months, int minMonth,
+                             int maxMonth) {
+        clamp(pool, MonthTable.GREGORIAN, years, months, minMonth, maxMonth);
+    }
+
+    /**
+     * Clamps the years and months in place, splitting large inputs across the pool.
+     *
+     * @see #clamp(MonthTable, int[], int[], int, int)
+     */
+    public static void clamp(ForkJoinPool pool, MonthTable table, int[] years, int[] months,
+                             int minMonth, int maxMonth) {
+        checkRange(minMonth, maxMonth);
+        checkSameLength(years, months);
+        pool.invoke(new ClampTask(table, years, months, 0, years.length, minMonth, maxMonth));
+    }
+
+    /**
+     * Checks which epoch-months are inside the inclusive range.
+     *
+     * @param epochMonths The epoch-months, see {@link EpochMonths}.
+     * @param minMonth    The min month as an epoch-month.
+     * @param maxMonth    The max month as an epoch-month.
+     * @param validity    The bitmap to reuse, or null to allocate one.
+     * @return the bitmap where bit i is set if the month at index i is valid
+     */
+    public static long[] validate(int[] epochMonths, int minMonth, int maxMonth,
+                                  long[] validity) {
+        return validate(MonthTable.GREGORIAN, epochMonths, minMonth, maxMonth, validity);
+    }
+
+    /**
+     * Checks which month indices are existing months inside the inclusive range.
+     *
+     * @param table    The table of the months.
+     * @param months   The month indices of the table.
+     * @param minMonth The min month index.
+     * @param maxMonth The max month index.
+     * @param validity The bitmap to reuse, or null to allocate one.
+     * @return the bitmap where bit i is set if the month at index i is valid
+     */
+    public static long[] validate(MonthTable table, int[] months, int minMonth, int maxMonth,
+                                  long[] validity) {
+        validity = prepareBitmap(validity, months.length);
+        validate(table, months, null, 0, months.length, minMonth, maxMonth, validity);
+        return validity;
+    }
+
+    /**
+     * Checks which years and months are inside the inclusive range. Months outside of 0-11 roll
+     * over into the neighbouring years, as they do in {@link #clamp(int[], int[], int, int)}.
+     *
+     * @param years    The years.
+     * @param months   The months (0-11) for compatibility with {@link java.util.Calendar}.
+     * @param minMonth The min month as an epoch-month.
+     * @param maxMonth The max month as an epoch-month.
+     * @param validity The bitmap to reuse, or null to allocate one.
+     * @return the bitmap where bit i is set if the month at index i is valid
+     */
+    public static long[] validate(int[] years, int[] months, int minMonth, int maxMonth,
+                                  long[] validity) {
+        return validate(MonthTable.GREGORIAN, years, months, minMonth, maxMonth, validity);
+    }
+
+    /**
+     * Checks which years and months are inside the inclusive range. Months outside of the year
+     * roll over into the neighbouring years, as they do in
+     * {@link #clamp(MonthTable, int[], int[], int, int)}.
+     *
+     * @param table    The table of the months.
+     * @param years    The years.
+     * @param months   The months of the year, starting at 0.
+     * @param minMonth The min month index.
+     * @param maxMonth The max month index.
+     * @param validity The bitmap to reuse, or null to allocate one.
+     * @return the bitmap where bit i is set if the month at index i is valid
+     */
+    public static long[] validate(MonthTable table, int[] years, int[] months, int minMonth,
+                                  int maxMonth, long[] validity) {
+        checkSameLength(years, months);
+        validity = prepareBitmap(validity, years.length);
+        validate(table, years, months, 0, years.length, minMonth, maxMonth, validity);
+        return validity;
+    }
+
+    /**
+     * Checks which epoch-months are inside the range, splitting large inputs across the pool.
+     *
+     * @see #validate(int[], int, int, long[])
+     */
+    public static long[] validate(ForkJoinPool pool, int[] epochMonths, int minMonth,
+                                  int maxMonth, long[] validity) {
+        return validate(pool, MonthTable.GREGORIAN, epochMonths, minMonth, maxMonth, validity);
+    }
+
+    /**
+     * Checks which month indices are valid, splitting large inputs across the pool.
+     *
+     * @see #validate(MonthTable, int[], int, int, long[])
+     */
+    public static long[] validate(ForkJoinPool pool, MonthTable table, int[] months,
+                                  int minMonth, int maxMonth, long[] validity) {
+        validity = prepareBitmap(validity, months.length);
+        pool.invoke(new ValidateTask(table, months, null, 0, months.length, minMonth, maxMonth,
+                validity));
+        return validity;
+    }
+
+    /**
+     * Checks which years and months are inside the range, splitting large inputs across the
+     * pool.
+     *
+     * @see #validate(int[], int[], int, int, long[])
+     */
+    public static long[] validate(ForkJoinPool pool, int[] years, int[] months, int minMonth,
+                                  int maxMonth, long[] validity) {
+        return validate(pool, MonthTable.GREGORIAN, years, months, minMonth, maxMonth, validity);
+    }
+
+    /**
+     * Checks which years and months are inside the range, splitting large inputs across the
+     * pool.
+     *
+     * @see #validate(MonthTable, int[], int[], int, int, long[])
+     */
+    public static long[] validate(ForkJoinPool pool, MonthTable table, int[] years, int[] months,
+                                  int minMonth, int maxMonth, long[] validity) {
+        checkSameLength(years, months);
+        validity = prepareBitmap(validity, years.length);
+        pool.invoke(new ValidateTask(table, years, months, 0, years.length, minMonth, maxMonth,
+                validity));
+        return validity;
+    }
+
+    /**
+     * @param validity The bitmap returned by one of the validate methods.
+     * @param index    The index of the month.
+     * @return true if the month at the index is valid
+     */
+    public static boolean isValid(long[] validity, int index) {
+        return (validity[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void clamp(MonthTable table, int[] months, int from, int to, int minMonth,
+                              int maxMonth) {
+        for (int i = from; i < to; i++) {
+            // as the picker selects a month, see MonthYearSelection.select
+            months[i] = clamp(table.normalize(months[i], 1), minMonth, maxMonth);
+        }
+    }
+
+    private static void clamp(MonthTable table, int[] years, int[] months, int from, int to,
+                              int minMonth, int maxMonth) {
+        for (int i = from; i < to; i++) {
+            int month = clamp(table.rollOver(years[i], months[i]), minMonth, maxMonth);
+            years[i] = table.getYear(month);
+            months[i] = table.getMonth(month);
+        }
+    }
+
+    private static int clamp(int month, int minMonth, int maxMonth) {
+        return Math.max(minMonth, Math.min(maxMonth, month));
+    }
+
+    /**
+     * Validates the slice, which must start on a word boundary so that concurrent slices never
+     * write the same word.
+     */
+    private static void validate(MonthTable table, int[] yearsOrMonths, int[] months, int from,
+                                 int to, int minMonth, int maxMonth, long[] validity) {
+        long word = 0;
+        for (int i = from; i < to; i++) {
+            boolean valid;
+            if (months == null) {
+                int month = yearsOrMonths[i];
+                valid = month >= minMonth && month <= maxMonth
+                        && table.normalize(month, 1) == month;
+            } else {
+                int month = table.rollOver(yearsOrMonths[i], months[i]);
+                valid = month >= minMonth && month <= maxMonth;
+            }
+            if (valid) {
+                word |= 1L << i;
+            }
+            if ((i & 63) == 63 || i == to - 1) {
+                validity[i >>> 6] = word;
+                word = 0;
+            }
+        }
+    }
+
+    private static long[] prepareBitmap(long[] validity, int length) {
+        int words = (length + 63) >>> 6;
+        if (validity == null) {
+            return new long[words];
+        } else if (validity.length < words) {
+            throw new IllegalArgumentException("The validity bitmap is too small.");
+        }
+        return validity;
+    }
+
+    private static void checkRange(int minMonth, int maxMonth) {
+        if (maxMonth < minMonth) {
+            throw new IllegalArgumentException("The max month should not be less than min month.");
+        }
+    }
+
+    private static void checkSameLength(int[] years, int[] months) {
+        if (years.length != months.length) {
+            throw new IllegalArgumentException("The years and months should have same length.");
+        }
+    }
+
+    private static final class ClampTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final MonthTable mTable;
+        private final int[] mYearsOrMonths;
+        private final int[] mMonths;
+        private final int mFrom;
+        private final int mTo;
+        private final int mMinMonth;
+        private final int mMaxMonth;
+
+        ClampTask(MonthTable table, int[] yearsOrMonths, int[] months, int from, int to,
+                  int minMonth, int maxMonth) {
+            mTable = table;
+            mYearsOrMonths = yearsOrMonths;
+            mMonths = months;
+            mFrom = from;
+            mTo = to;
+            mMinMonth = minMonth;
+            mMaxMonth = maxMonth;
+        }
+
+        @Override
+        protected void compute() {
+            if (mTo - mFrom <= PARALLEL_THRESHOLD) {
+                if (mMonths == null) {
+                    clamp(mTable, mYearsOrMonths, mFrom, mTo, mMinMonth, mMaxMonth);
+                } else {
+                    clamp(mTable, mYearsOrMonths, mMonths, mFrom, mTo, mMinMonth, mMaxMonth);
+                }
+                return;
+            }
+            int middle = (mFrom + mTo) >>> 1;
+            invokeAll(new ClampTask(mTable, mYearsOrMonths, mMonths, mFrom, middle, mMinMonth,
+                            mMaxMonth),
+                    new ClampTask(mTable, mYearsOrMonths, mMonths, middle, mTo, mMinMonth,
+                            mMaxMonth));
+        }
+    }
+
+    private static final class ValidateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final MonthTable mTable;
+        private final int[] mYearsOrMonths;
+        private final int[] mMonths;
+        private final int mFrom;
+        private final int mTo;
+        private final int mMinMonth;
+        private final int mMaxMonth;
+        private final long[] mValidity;
+
+        ValidateTask(MonthTable table, int[] yearsOrMonths, int[] months, int from, int to,
+                     int minMonth, int maxMonth, long[] validity) {
+            mTable = table;
+            mYearsOrMonths = yearsOrMonths;
+            mMonths = months;
+            mFrom = from;
+            mTo = to;
+            mMinMonth = minMonth;
+            mMaxMonth = maxMonth;
+            mValidity = validity;
+        }
+
+        @Override
+        protected void compute() {
+            if (mTo - mFrom <= PARALLEL_THRESHOLD) {
+                validate(mTable, mYearsOrMonths, mMonths, mFrom, mTo, mMinMonth, mMaxMonth,
+                        mValidity);
+                return;
+            }
+            // split on a word boundary
+            int middle = ((mFrom + mTo) >>> 1) & ~63;
+            invokeAll(new ValidateTask(mTable, mYearsOrMonths, mMonths, mFrom, middle, mMinMonth,
+                            mMaxMonth, mValidity),
+                    new ValidateTask(mTable, mYearsOrMonths, mMonths, middle, mTo, mMinMonth,
+                            mMaxMonth, mValidity));
+        }
+    }
+}
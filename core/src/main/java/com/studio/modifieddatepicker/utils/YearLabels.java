@@ -0,0 +1,162 @@
+package com.studio.modifieddatepicker.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shared, lazily filled year labels of a locale for a range of years, formatted with the digits of
+ * the locale as the year spinner formats them. Tables are cached for the most recently used
+ * locales and ranges and shared process-wide. The labels are kept in pages of {@link #PAGE_SIZE}
+ * years allocated when a year of the page is first asked for, so a long range only costs the pages
+ * scrolled through, and each label is formatted once, so drawing a year does not format or
+ * allocate.
+ */
+public final class YearLabels {
+
+    /**
+     * The number of years of a page, one page of the year column, see {@link
+     * com.studio.modifieddatepicker.core.MonthYearColumns#YEAR_PAGE_SIZE}.
+     */
+    public static final int PAGE_SIZE = 100;
+
+    private static final int MAX_CACHED_TABLES = 8;
+
+    // longer ranges keep labels for their first years only, the other years are formatted per call
+    private static final int MAX_TABLE_YEARS = 10000;
+
+    private static final Map<Key, YearLabels> sCache =
+            new LinkedHashMap<Key, YearLabels>(MAX_CACHED_TABLES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, YearLabels> eldest) {
+                    return size() > MAX_CACHED_TABLES;
+                }
+            };
+
+    private final Locale mLocale;
+    private final int mMinYear;
+    private final int mMaxYear;
+    private final int mSize;
+    private final AtomicReferenceArray<AtomicReferenceArray<String>> mPages;
+
+    private YearLabels(Locale locale, int minYear, int maxYear) {
+        mLocale = locale;
+        mMinYear = minYear;
+        mMaxYear = maxYear;
+        mSize = (int) Math.min(MAX_TABLE_YEARS, (long) maxYear - minYear + 1);
+        mPages = new AtomicReferenceArray<>((mSize + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    /**
+     * Gets the labels of the years of the locale, creating the table if it is not cached.
+     *
+     * @param locale  The locale.
+     * @param minYear The min year.
+     * @param maxYear The max year.
+     * @return the shared labels
+     */
+    public static YearLabels get(Locale locale, int minYear, int maxYear) {
+        if (maxYear < minYear) {
+            throw new IllegalArgumentException("The max year should not be less than min year.");
+        }
+        Key key = new Key(locale, minYear, maxYear);
+        synchronized (sCache) {
+            YearLabels labels = sCache.get(key);
+            if (labels == null) {
+                labels = new YearLabels(locale, minYear, maxYear);
+                sCache.put(key, labels);
+            }
+            return labels;
+        }
+    }
+
+    /**
+     * @param locale  The locale.
+     * @param minYear The min year.
+     * @param maxYear The max year.
+     * @return true if these are labels of the locale for all of the years
+     */
+    public boolean covers(Locale locale, int minYear, int maxYear) {
+        return minYear >= mMinYear && maxYear <= mMaxYear && locale.equals(mLocale);
+    }
+
+    public Locale getLocale() {
+        return mLocale;
+    }
+
+    public int getMinYear() {
+        return mMinYear;
+    }
+
+    public int getMaxYear() {
+        return mMaxYear;
+    }
+
+    /**
+     * @return the number of years with a cached label, starting at the min year
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Gets the label of the year, only years outside of the cached years are formatted.
+     *
+     * @param year The year.
+     * @return the label
+     */
+    public String getLabel(int year) {
+        long index = (long) year - mMinYear;
+        if (index < 0 || index >= mSize) {
+            return format(year);
+        }
+        int pageIndex = (int) index / PAGE_SIZE;
+        AtomicReferenceArray<String> page = mPages.get(pageIndex);
+        if (page == null) {
+            page = new AtomicReferenceArray<>(PAGE_SIZE);
+            if (!mPages.compareAndSet(pageIndex, null, page)) {
+                page = mPages.get(pageIndex);
+            }
+        }
+        int slot = (int) index % PAGE_SIZE;
+        String label = page.get(slot);
+        if (label == null) {
+            // formatting twice on a race is harmless, the labels are equal
+            label = format(year);
+            page.set(slot, label);
+        }
+        return label;
+    }
+
+    private String format(int year) {
+        return String.format(mLocale, "%d", year);
+    }
+
+    private static final class Key {
+
+        final Locale locale;
+        final int minYear;
+        final int maxYear;
+
+        Key(Locale locale, int minYear, int maxYear) {
+            this.locale = locale;
+            this.minYear = minYear;
+            this.maxYear = maxYear;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return minYear == key.minYear && maxYear == key.maxYear && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return (locale.hashCode() * 31 + minYear) * 31 + maxYear;
+        }
+    }
+}
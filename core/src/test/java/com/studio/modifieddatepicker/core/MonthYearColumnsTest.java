@@ -0,0 +1,134 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.EpochMonths;
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MonthYearColumnsTest {
+
+    private static final MonthTable TABLE = MonthTable.GREGORIAN;
+
+    @Test
+    public void monthWrapForwardMovesToNextYear() {
+        int month = EpochMonths.of(2016, 11);
+        assertEquals(EpochMonths.of(2017, 0), MonthYearColumns.applyChange(TABLE, month,
+                MonthYearColumns.COLUMN_MONTH, 11, 0));
+    }
+
+    @Test
+    public void monthWrapBackwardMovesToPreviousYear() {
+        int month = EpochMonths.of(2016, 0);
+        assertEquals(EpochMonths.of(2015, 11), MonthYearColumns.applyChange(TABLE, month,
+                MonthYearColumns.COLUMN_MONTH, 0, 11));
+    }
+
+    @Test
+    public void monthStepKeepsYear() {
+        int month = EpochMonths.of(2016, 4);
+        assertEquals(EpochMonths.of(2016, 5), MonthYearColumns.applyChange(TABLE, month,
+                MonthYearColumns.COLUMN_MONTH, 4, 5));
+        assertEquals(EpochMonths.of(2016, 3), MonthYearColumns.applyChange(TABLE, month,
+                MonthYearColumns.COLUMN_MONTH, 4, 3));
+    }
+
+    @Test
+    public void yearChangeKeepsMonth() {
+        int month = EpochMonths.of(2016, 4);
+        assertEquals(EpochMonths.of(1999, 4), MonthYearColumns.applyChange(TABLE, month,
+                MonthYearColumns.COLUMN_YEAR, 2016, 1999));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownColumnIsRejected() {
+        MonthYearColumns.applyChange(TABLE, 0, 2, 0, 1);
+    }
+
+    @Test
+    public void updateLimitsMonthsInMinAndMaxYear() {
+        MonthYearColumns columns = new MonthYearColumns();
+        MonthYearSelection selection = new MonthYearSelection(EpochMonths.of(2000, 5),
+                EpochMonths.of(2000, 3), EpochMonths.of(2002, 8));
+
+        columns.update(TABLE, selection);
+        assertEquals(2000, columns.getYear());
+        assertEquals(5, columns.getMonthOfYear());
+        assertEquals(3, columns.getMinMonthOfYear());
+        assertEquals(11, columns.getMaxMonthOfYear());
+        assertFalse(columns.isWrapMonths());
+        assertEquals(2000, columns.getMinYear());
+        assertEquals(2002, columns.getMaxYear());
+
+        selection.setSelectedMonth(EpochMonths.of(2001, 5));
+        columns.update(TABLE, selection);
+        assertEquals(0, columns.getMinMonthOfYear());
+        assertEquals(11, columns.getMaxMonthOfYear());
+        assertTrue(columns.isWrapMonths());
+
+        selection.setSelectedMonth(EpochMonths.of(2002, 5));
+        columns.update(TABLE, selection);
+        assertEquals(0, columns.getMinMonthOfYear());
+        assertEquals(8, columns.getMaxMonthOfYear());
+        assertFalse(columns.isWrapMonths());
+    }
+
+    @Test
+    public void updatePagesLongYearRanges() {
+        MonthYearColumns columns = new MonthYearColumns();
+        MonthYearSelection selection = new MonthYearSelection(EpochMonths.of(2000, 0),
+                EpochMonths.of(0, 0), EpochMonths.of(9999, 11));
+
+        columns.update(TABLE, selection);
+        assertEquals(MonthYearColumns.YEAR_PAGE_SIZE - 1,
+                columns.getMaxYear() - columns.getMinYear());
+        assertTrue(columns.getMinYear() < 2000 && columns.getMaxYear() > 2000);
+
+        // the page is kept while the year stays inside of it
+        int minYear = columns.getMinYear();
+        selection.setSelectedMonth(EpochMonths.of(2010, 0));
+        columns.update(TABLE, selection);
+        assertEquals(minYear, columns.getMinYear());
+
+        // and moved once the year reaches an edge with more years beyond it
+        selection.setSelectedMonth(EpochMonths.of(columns.getMaxYear(), 0));
+        columns.update(TABLE, selection);
+        assertTrue(columns.getMinYear() > minYear);
+        assertTrue(columns.getYear() < columns.getMaxYear());
+    }
+
+    @Test
+    public void updateMovesThePageOntoJumpsOutsideOfIt() {
+        MonthYearColumns columns = new MonthYearColumns();
+        MonthYearSelection selection = new MonthYearSelection(EpochMonths.of(2000, 0),
+                EpochMonths.of(0, 0), EpochMonths.of(9999, 11));
+        columns.update(TABLE, selection);
+
+        // a jump to the max year far beyond the page ends on the last page
+        selection.setSelectedMonth(EpochMonths.of(9999, 5));
+        columns.update(TABLE, selection);
+        assertEquals(9999, columns.getYear());
+        assertEquals(9999, columns.getMaxYear());
+        assertEquals(9999 - MonthYearColumns.YEAR_PAGE_SIZE + 1, columns.getMinYear());
+
+        // and a jump back to the min year on the first page
+        selection.setSelectedMonth(EpochMonths.of(0, 5));
+        columns.update(TABLE, selection);
+        assertEquals(0, columns.getYear());
+        assertEquals(0, columns.getMinYear());
+        assertEquals(MonthYearColumns.YEAR_PAGE_SIZE - 1, columns.getMaxYear());
+    }
+
+    @Test
+    public void updateDoesNotPageShortYearRanges() {
+        MonthYearColumns columns = new MonthYearColumns();
+        MonthYearSelection selection = new MonthYearSelection(EpochMonths.of(2000, 0),
+                EpochMonths.of(1900, 0), EpochMonths.of(2100, 11));
+        columns.update(TABLE, selection);
+        assertEquals(1900, columns.getMinYear());
+        assertEquals(2100, columns.getMaxYear());
+    }
+}
@@ -0,0 +1,132 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.EpochMonths;
+import com.studio.modifieddatepicker.utils.MonthMask;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MonthYearControllerTest {
+
+    private static final int MIN = EpochMonths.of(1900, 0);
+    private static final int MAX = EpochMonths.of(2100, 11);
+
+    private HeadlessMonthYearWheel mWheel;
+    private MonthYearController mController;
+
+    @Before
+    public void setUp() {
+        mWheel = new HeadlessMonthYearWheel();
+        mController = new MonthYearController(mWheel, Locale.US);
+        mWheel.setCallback(new MonthYearWheel.Callback() {
+            @Override
+            public void onValueChange(int column, int oldVal, int newVal) {
+                mController.onValueChange(column, oldVal, newVal);
+            }
+
+            @Override
+            public void onScrollIdle() {
+                // Do nothing
+            }
+
+            @Override
+            public boolean isMonthEnabled(int monthOfYear) {
+                return mController.isMonthEnabled(monthOfYear);
+            }
+        });
+        mController.apply(EpochMonths.of(2016, 10), MIN, MAX, null);
+    }
+
+    @Test
+    public void applyConfiguresColumns() {
+        assertEquals(2016, mWheel.getValue(MonthYearWheel.COLUMN_YEAR));
+        assertEquals(10, mWheel.getValue(MonthYearWheel.COLUMN_MONTH));
+        assertEquals(1900, mWheel.getMinValue(MonthYearWheel.COLUMN_YEAR));
+        assertEquals(2100, mWheel.getMaxValue(MonthYearWheel.COLUMN_YEAR));
+        assertTrue(mWheel.isWrap(MonthYearWheel.COLUMN_MONTH));
+        assertEquals(12, mWheel.getDisplayedValues(MonthYearWheel.COLUMN_MONTH).length);
+    }
+
+    @Test
+    public void monthWrapUpdatesYear() {
+        mWheel.scroll(MonthYearWheel.COLUMN_MONTH, 2);
+        assertEquals(EpochMonths.of(2017, 0), mController.getSelectedMonth());
+        assertEquals(2017, mWheel.getValue(MonthYearWheel.COLUMN_YEAR));
+        assertEquals(0, mWheel.getValue(MonthYearWheel.COLUMN_MONTH));
+
+        mWheel.scroll(MonthYearWheel.COLUMN_MONTH, -1);
+        assertEquals(EpochMonths.of(2016, 11), mController.getSelectedMonth());
+        assertEquals(2016, mWheel.getValue(MonthYearWheel.COLUMN_YEAR));
+    }
+
+    @Test
+    public void minMonthNarrowsMonthColumn() {
+        mController.setMinMonth(EpochMonths.of(2016, 11));
+        assertEquals(EpochMonths.of(2016, 11), mController.getSelectedMonth());
+        assertEquals(2016, mWheel.getMinValue(MonthYearWheel.COLUMN_YEAR));
+        assertEquals(11, mWheel.getMinValue(MonthYearWheel.COLUMN_MONTH));
+        assertFalse(mWheel.isWrap(MonthYearWheel.COLUMN_MONTH));
+    }
+
+    @Test
+    public void maxMonthClampsSelectionBackwards() {
+        mController.setMaxMonth(EpochMonths.of(2010, 2));
+        assertEquals(EpochMonths.of(2010, 2), mController.getSelectedMonth());
+        assertEquals(2, mWheel.getMaxValue(MonthYearWheel.COLUMN_MONTH));
+    }
+
+    @Test
+    public void unchangedColumnsAreNotReconfigured() {
+        int rangeChanges = mWheel.getRangeChanges();
+        mWheel.scroll(MonthYearWheel.COLUMN_MONTH, -3);
+        mWheel.scroll(MonthYearWheel.COLUMN_YEAR, 5);
+        assertEquals(rangeChanges, mWheel.getRangeChanges());
+    }
+
+    @Test
+    public void unavailableMonthsAreSkipped() {
+        MonthMask mask = new MonthMask(MIN, MAX);
+        mask.setAvailable(EpochMonths.of(2016, 11), false);
+        assertFalse(mController.setAvailableMonths(mask));
+        assertFalse(mController.isMonthEnabled(11));
+
+        mWheel.scroll(MonthYearWheel.COLUMN_MONTH, 1);
+        assertEquals(EpochMonths.of(2017, 0), mController.getSelectedMonth());
+    }
+
+    @Test
+    public void boundSelectionFollowsColumns() {
+        MonthYearSelection selection = new MonthYearSelection(EpochMonths.of(2000, 5), MIN, MAX);
+        mController.bind(selection);
+        assertEquals(2000, mWheel.getValue(MonthYearWheel.COLUMN_YEAR));
+
+        mWheel.scroll(MonthYearWheel.COLUMN_YEAR, 1);
+        assertEquals(EpochMonths.of(2001, 5), selection.getSelectedMonth());
+
+        mController.bind(null);
+        mWheel.scroll(MonthYearWheel.COLUMN_YEAR, 1);
+        assertEquals(EpochMonths.of(2001, 5), selection.getSelectedMonth());
+        assertEquals(EpochMonths.of(2002, 5), mController.getSelectedMonth());
+    }
+
+    @Test
+    public void stepYearsToTheBoundsMovesTheYearPage() {
+        mController.apply(EpochMonths.of(2000, 4), EpochMonths.of(0, 0),
+                EpochMonths.of(9999, 11), null);
+        assertTrue(mController.stepYears(100000));
+        assertEquals(9999, mWheel.getValue(MonthYearWheel.COLUMN_YEAR));
+        assertEquals(9999, mWheel.getMaxValue(MonthYearWheel.COLUMN_YEAR));
+        assertTrue(mWheel.getMinValue(MonthYearWheel.COLUMN_YEAR) > 9000);
+
+        assertTrue(mController.stepYears(-100000));
+        assertEquals(0, mWheel.getValue(MonthYearWheel.COLUMN_YEAR));
+        assertEquals(0, mWheel.getMinValue(MonthYearWheel.COLUMN_YEAR));
+        assertTrue(mWheel.getMaxValue(MonthYearWheel.COLUMN_YEAR) < 1000);
+    }
+}
@@ -0,0 +1,93 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.EpochMonths;
+import com.studio.modifieddatepicker.utils.MonthMask;
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MonthYearSelectionTest {
+
+    private static final MonthTable TABLE = MonthTable.GREGORIAN;
+
+    private static final int MIN = EpochMonths.of(2000, 0);
+    private static final int MAX = EpochMonths.of(2010, 11);
+
+    @Test
+    public void constructorClampsSelection() {
+        assertEquals(MIN, new MonthYearSelection(MIN - 5, MIN, MAX).getSelectedMonth());
+        assertEquals(MAX, new MonthYearSelection(MAX + 5, MIN, MAX).getSelectedMonth());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setBoundsRejectsInvertedBounds() {
+        new MonthYearSelection(MIN, MAX, MIN);
+    }
+
+    @Test
+    public void selectClampsToBounds() {
+        MonthYearSelection selection = new MonthYearSelection(MIN, MIN, MAX);
+        assertEquals(MAX, selection.select(TABLE, MAX + 100, 1));
+        assertEquals(MIN, selection.select(TABLE, MIN - 100, -1));
+        assertEquals(EpochMonths.of(2005, 6), selection.select(TABLE, EpochMonths.of(2005, 6), 1));
+        assertEquals(EpochMonths.of(2005, 6), selection.getSelectedMonth());
+    }
+
+    @Test
+    public void selectSkipsUnavailableMonthsInDirection() {
+        MonthYearSelection selection = new MonthYearSelection(MIN, MIN, MAX);
+        MonthMask mask = new MonthMask(MIN, MAX);
+        mask.setRange(EpochMonths.of(2005, 3), EpochMonths.of(2005, 8), false);
+        selection.setAvailableMonths(mask);
+
+        assertEquals(EpochMonths.of(2005, 9), selection.select(TABLE, EpochMonths.of(2005, 5), 1));
+        assertEquals(EpochMonths.of(2005, 2), selection.select(TABLE, EpochMonths.of(2005, 5), -1));
+    }
+
+    @Test
+    public void selectFallsBackToOppositeDirection() {
+        MonthYearSelection selection = new MonthYearSelection(MIN, MIN, MAX);
+        MonthMask mask = new MonthMask(MIN, MAX);
+        mask.setRange(EpochMonths.of(2010, 6), MAX, false);
+        selection.setAvailableMonths(mask);
+
+        assertEquals(EpochMonths.of(2010, 5), selection.select(TABLE, EpochMonths.of(2010, 8), 1));
+    }
+
+    @Test
+    public void isAvailableChecksBoundsAndMask() {
+        MonthYearSelection selection = new MonthYearSelection(MIN, MIN, MAX);
+        assertFalse(selection.isAvailable(MIN - 1));
+        assertTrue(selection.isAvailable(MIN));
+        MonthMask mask = new MonthMask(MIN, MAX);
+        mask.setAvailable(MIN, false);
+        selection.setAvailableMonths(mask);
+        assertFalse(selection.isAvailable(MIN));
+    }
+
+    @Test
+    public void stepYearsKeepsMonthAndClamps() {
+        MonthYearSelection selection = new MonthYearSelection(EpochMonths.of(2005, 4), MIN, MAX);
+        assertTrue(selection.stepYears(TABLE, 3));
+        assertEquals(EpochMonths.of(2008, 4), selection.getSelectedMonth());
+        assertTrue(selection.stepYears(TABLE, 100));
+        assertEquals(MAX, selection.getSelectedMonth());
+        assertFalse(selection.stepYears(TABLE, 1));
+        assertFalse(selection.stepYears(TABLE, 0));
+    }
+
+    @Test
+    public void copySharesAvailableMonths() {
+        MonthYearSelection selection = new MonthYearSelection(MIN, MIN, MAX);
+        selection.setAvailableMonths(new MonthMask(MIN, MAX));
+        MonthYearSelection copy = new MonthYearSelection(selection);
+        assertEquals(selection.getSelectedMonth(), copy.getSelectedMonth());
+        assertEquals(selection.getMinMonth(), copy.getMinMonth());
+        assertEquals(selection.getMaxMonth(), copy.getMaxMonth());
+        assertTrue(selection.getAvailableMonths() == copy.getAvailableMonths());
+    }
+}
@@ -0,0 +1,162 @@
+package com.studio.modifieddatepicker.core;
+
+import com.studio.modifieddatepicker.utils.EpochMonths;
+import com.studio.modifieddatepicker.utils.MonthMask;
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PickerTraceTest {
+
+    private static final int MIN = EpochMonths.of(2000, 0);
+    private static final int MAX = EpochMonths.of(2030, 11);
+
+    @Test
+    public void traceKeepsTheStateRecordingStartedFrom() throws IOException {
+        MonthMask mask = new MonthMask(MIN, MAX);
+        mask.setAvailable(EpochMonths.of(2016, 11), false);
+        PickerTraceRecorder recorder = new PickerTraceRecorder();
+        recorder.start(EpochMonths.of(2016, 10), MIN, MAX, 2, mask);
+        recorder.record(MonthYearWheel.COLUMN_MONTH, 10, 11);
+        recorder.record(MonthYearWheel.COLUMN_YEAR, 2016, 2017);
+
+        PickerTrace trace = readBack(recorder.toTrace());
+        assertEquals(EpochMonths.of(2016, 10), trace.getSelectedMonth());
+        assertEquals(MIN, trace.getMinMonth());
+        assertEquals(MAX, trace.getMaxMonth());
+        assertEquals(2, trace.getDispatchMode());
+        assertEquals(mask, trace.getAvailableMonths());
+        assertEquals(2, trace.size());
+        assertEquals(MonthYearWheel.COLUMN_YEAR, trace.getSpinner(1));
+        assertEquals(2017, trace.getNewValue(1));
+    }
+
+    @Test
+    public void traceWithoutMaskReadsBack() throws IOException {
+        PickerTraceRecorder recorder = new PickerTraceRecorder();
+        recorder.start(MIN, MIN, MAX, 0, null);
+        PickerTrace trace = readBack(recorder.toTrace());
+        assertNull(trace.getAvailableMonths());
+        assertEquals(0, trace.size());
+    }
+
+    @Test
+    public void replayStartsFromTheRecordedState() {
+        MonthMask mask = new MonthMask(MIN, MAX);
+        mask.setAvailable(EpochMonths.of(2016, 11), false);
+        PickerTraceRecorder recorder = new PickerTraceRecorder();
+        recorder.start(EpochMonths.of(2016, 10), MIN, MAX, 0, mask);
+        // December 2016 is not available, the selection skips to January 2017
+        recorder.record(MonthYearWheel.COLUMN_MONTH, 10, 11);
+        recorder.record(MonthYearWheel.COLUMN_YEAR, 2017, 2018);
+
+        PickerTraceReplayer.Report report = PickerTraceReplayer.replay(recorder.toTrace(),
+                Locale.US, MonthTable.GREGORIAN, null);
+        assertEquals(2, report.getEventCount());
+        assertEquals(2, report.getDispatchCount());
+        assertEquals(EpochMonths.of(2018, 0), report.getSelectedMonth());
+        assertTrue(report.getAllocatedBytesPerEvent() < 0);
+    }
+
+    @Test
+    public void coalescedChangesAreDispatchedOncePerFrame() {
+        PickerTraceRecorder recorder = startRecording(DateChangeDispatcher.DISPATCH_COALESCED);
+        // three changes in the first frame, two in the second
+        recordMonthSteps(recorder, 0, 1, 2, 20, 21);
+
+        PickerTraceReplayer.Report report = replay(recorder);
+        assertEquals(5, report.getEventCount());
+        assertEquals(2, report.getDispatchCount());
+        assertEquals(EpochMonths.of(2016, 5), report.getSelectedMonth());
+    }
+
+    @Test
+    public void settledChangesAreDispatchedOnceTheColumnsRest() {
+        PickerTraceRecorder recorder = startRecording(DateChangeDispatcher.DISPATCH_SETTLED);
+        // the first three changes settle before the fourth, which settles after the trace
+        recordMonthSteps(recorder, 0, 50, 100, 600);
+
+        assertEquals(2, replay(recorder).getDispatchCount());
+    }
+
+    @Test
+    public void scrollIdleDispatchesSettledChangesRightAway() {
+        PickerTraceRecorder recorder = startRecording(DateChangeDispatcher.DISPATCH_SETTLED);
+        recordMonthSteps(recorder, 0, 10);
+        recorder.record(PickerTrace.EVENT_SCROLL_IDLE, 0, 0, millis(20));
+        recorder.record(MonthYearWheel.COLUMN_MONTH, 2, 3, millis(100));
+
+        PickerTraceReplayer.Report report = replay(recorder);
+        assertEquals(3, report.getEventCount());
+        assertEquals(2, report.getDispatchCount());
+    }
+
+    @Test
+    public void immediateChangesAreDispatchedEachTime() {
+        PickerTraceRecorder recorder = startRecording(DateChangeDispatcher.DISPATCH_IMMEDIATE);
+        recordMonthSteps(recorder, 0, 1, 2);
+        recorder.record(PickerTrace.EVENT_SCROLL_IDLE, 0, 0, millis(3));
+
+        assertEquals(3, replay(recorder).getDispatchCount());
+    }
+
+    @Test
+    public void scrollIdleEventsReadBack() throws IOException {
+        PickerTraceRecorder recorder = startRecording(DateChangeDispatcher.DISPATCH_SETTLED);
+        recordMonthSteps(recorder, 0);
+        recorder.record(PickerTrace.EVENT_SCROLL_IDLE, 0, 0, millis(40));
+
+        PickerTrace trace = readBack(recorder.toTrace());
+        assertEquals(2, trace.size());
+        assertEquals(PickerTrace.EVENT_SCROLL_IDLE, trace.getSpinner(1));
+        assertEquals(40, trace.getDelayMillis(1));
+    }
+
+    @Test
+    public void otherStreamsAreRejected() {
+        try {
+            PickerTrace.readFrom(new ByteArrayInputStream(new byte[16]));
+            fail("read a trace from zeros");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    private static PickerTraceRecorder startRecording(int dispatchMode) {
+        PickerTraceRecorder recorder = new PickerTraceRecorder();
+        recorder.start(EpochMonths.of(2016, 0), MIN, MAX, dispatchMode, null);
+        return recorder;
+    }
+
+    // records a step of the month column forward at each of the times
+    private static void recordMonthSteps(PickerTraceRecorder recorder, long... timesMillis) {
+        for (int i = 0; i < timesMillis.length; i++) {
+            recorder.record(MonthYearWheel.COLUMN_MONTH, i, i + 1, millis(timesMillis[i]));
+        }
+    }
+
+    private static PickerTraceReplayer.Report replay(PickerTraceRecorder recorder) {
+        return PickerTraceReplayer.replay(recorder.toTrace(), Locale.US, MonthTable.GREGORIAN,
+                null);
+    }
+
+    private static long millis(long millis) {
+        return millis * 1000000;
+    }
+
+    private static PickerTrace readBack(PickerTrace trace) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        trace.writeTo(out);
+        return PickerTrace.readFrom(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
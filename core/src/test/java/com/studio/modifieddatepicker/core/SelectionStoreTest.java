@@ -0,0 +1,91 @@
+package com.studio.modifieddatepicker.core;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SelectionStoreTest {
+
+    @Test
+    public void publishPacksTheMonthsWithANewVersion() {
+        SelectionStore store = new SelectionStore();
+        assertEquals(0, SelectionStore.getVersion(store.getSnapshot()));
+
+        store.publish(24000, 23000, 25000);
+        long snapshot = store.getSnapshot();
+        assertEquals(1, SelectionStore.getVersion(snapshot));
+        assertEquals(24000, SelectionStore.getSelectedMonth(snapshot));
+        assertEquals(23000, SelectionStore.getMinMonth(snapshot));
+        assertEquals(25000, SelectionStore.getMaxMonth(snapshot));
+
+        // an unchanged selection keeps the version
+        store.publish(24000, 23000, 25000);
+        assertEquals(snapshot, store.getSnapshot());
+    }
+
+    @Test
+    public void monthsOutsideOfTheRangeAreClamped() {
+        SelectionStore store = new SelectionStore();
+        store.publish(-5, 0, SelectionStore.MAX_MONTH + 5);
+        long snapshot = store.getSnapshot();
+        assertEquals(0, SelectionStore.getSelectedMonth(snapshot));
+        assertEquals(SelectionStore.MAX_MONTH, SelectionStore.getMaxMonth(snapshot));
+    }
+
+    @Test
+    public void timedOutWaitsReuseTheirWaiter() throws InterruptedException {
+        SelectionStore store = new SelectionStore();
+        long snapshot = store.getSnapshot();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(snapshot, store.awaitChange(snapshot, 1, TimeUnit.NANOSECONDS));
+        }
+        assertTrue(store.countWaiters() <= 1);
+
+        store.publish(1, 0, 2);
+        assertEquals(0, store.countWaiters());
+    }
+
+    @Test
+    public void interruptedWaitsReuseTheirWaiter() {
+        SelectionStore store = new SelectionStore();
+        for (int i = 0; i < 100; i++) {
+            Thread.currentThread().interrupt();
+            try {
+                store.awaitChange(store.getSnapshot());
+            } catch (InterruptedException e) {
+                // expected
+            }
+        }
+        assertFalse(Thread.interrupted());
+        assertTrue(store.countWaiters() <= 1);
+    }
+
+    @Test
+    public void publishWakesAWaitingReader() throws Exception {
+        final SelectionStore store = new SelectionStore();
+        final long snapshot = store.getSnapshot();
+        final long[] seen = new long[1];
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    seen[0] = store.awaitChange(snapshot);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        reader.start();
+        while (store.countWaiters() == 0 && reader.isAlive()) {
+            Thread.yield();
+        }
+        store.publish(7, 3, 9);
+        reader.join(10000);
+        assertFalse(reader.isAlive());
+        assertEquals(7, SelectionStore.getSelectedMonth(seen[0]));
+    }
+}
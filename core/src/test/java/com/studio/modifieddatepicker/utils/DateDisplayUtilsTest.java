@@ -0,0 +1,93 @@
+package com.studio.modifieddatepicker.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class DateDisplayUtilsTest {
+
+    private Locale mDefaultLocale;
+
+    @Before
+    public void setUp() {
+        mDefaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @After
+    public void tearDown() {
+        DateDisplayUtils.clearCachedYearRange();
+        Locale.setDefault(mDefaultLocale);
+    }
+
+    @Test
+    public void parseReadsMonthAndYear() {
+        assertEquals(EpochMonths.of(2016, 10), DateDisplayUtils.parseMonthYear("11/2016", 0));
+        assertEquals(EpochMonths.of(2016, 2), DateDisplayUtils.parseMonthYear("x3/2016", 1));
+        assertEquals(EpochMonths.of(12345678, 11),
+                DateDisplayUtils.parseMonthYear("12/12345678", 0));
+        // parsing stops at the first char after the year
+        assertEquals(EpochMonths.of(2016, 10), DateDisplayUtils.parseMonthYear("11/2016 x", 0));
+    }
+
+    @Test
+    public void parseRejectsInvalidText() {
+        assertEquals(DateDisplayUtils.INVALID_MONTH_YEAR,
+                DateDisplayUtils.parseMonthYear("13/2016", 0));
+        assertEquals(DateDisplayUtils.INVALID_MONTH_YEAR,
+                DateDisplayUtils.parseMonthYear("11-2016", 0));
+        assertEquals(DateDisplayUtils.INVALID_MONTH_YEAR,
+                DateDisplayUtils.parseMonthYear("11/201", 0));
+    }
+
+    @Test
+    public void parseRejectsYearsWithMoreThanEightDigits() {
+        assertEquals(DateDisplayUtils.INVALID_MONTH_YEAR,
+                DateDisplayUtils.parseMonthYear("12/123456789", 0));
+    }
+
+    @Test
+    public void appendedMonthsParseBack() {
+        StringBuilder builder = new StringBuilder();
+        for (int year : new int[]{0, 999, 2016, 99999999}) {
+            builder.setLength(0);
+            DateDisplayUtils.appendMonthYear(builder, year, 6);
+            assertEquals(EpochMonths.of(year, 6), DateDisplayUtils.parseMonthYear(builder, 0));
+        }
+        assertEquals("07/2016", DateDisplayUtils.appendMonthYear(new StringBuilder(), 2016, 6)
+                .toString());
+    }
+
+    @Test
+    public void appendRejectsYearsThatCannotBeParsedBack() {
+        try {
+            DateDisplayUtils.appendMonthYear(new StringBuilder(), 100000000, 0);
+            fail("appended a year of 9 digits");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void cachedYearRangeSharesLabels() {
+        assertNotSame(DateDisplayUtils.formatMonthYear(2016, 6),
+                DateDisplayUtils.formatMonthYear(2016, 6));
+
+        DateDisplayUtils.setCachedYearRange(2010, 2020);
+        String label = DateDisplayUtils.formatMonthYear(2016, 6);
+        assertEquals("07/2016", label);
+        assertSame(label, DateDisplayUtils.formatMonthYear(2016, 6));
+        assertEquals("07/2021", DateDisplayUtils.formatMonthYear(2021, 6));
+
+        DateDisplayUtils.clearCachedYearRange();
+        assertNotSame(DateDisplayUtils.formatMonthYear(2016, 6),
+                DateDisplayUtils.formatMonthYear(2016, 6));
+    }
+}
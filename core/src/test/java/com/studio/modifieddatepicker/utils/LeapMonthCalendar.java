@@ -0,0 +1,66 @@
+package com.studio.modifieddatepicker.utils;
+
+import java.util.Calendar;
+
+/**
+ * A calendar system for tests with a leap month: years divisible by 3 have 13 months, the others
+ * 12. Only the fields read by {@link MonthTable#forCalendar(Calendar)} are supported.
+ */
+class LeapMonthCalendar extends Calendar {
+
+    LeapMonthCalendar(int year) {
+        set(YEAR, year);
+    }
+
+    static boolean isLeapYear(int year) {
+        return year % 3 == 0;
+    }
+
+    @Override
+    protected void computeTime() {
+        time = 0;
+    }
+
+    @Override
+    protected void computeFields() {
+        // the fields are only ever set
+    }
+
+    @Override
+    public void add(int field, int amount) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void roll(int field, boolean up) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getMinimum(int field) {
+        return field == YEAR ? 1 : 0;
+    }
+
+    @Override
+    public int getGreatestMinimum(int field) {
+        return getMinimum(field);
+    }
+
+    @Override
+    public int getMaximum(int field) {
+        return field == MONTH ? 12 : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getLeastMaximum(int field) {
+        return field == MONTH ? 11 : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getActualMaximum(int field) {
+        if (field == MONTH) {
+            return isLeapYear(get(YEAR)) ? 12 : 11;
+        }
+        return getMaximum(field);
+    }
+}
@@ -0,0 +1,72 @@
+package com.studio.modifieddatepicker.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MonthMaskTest {
+
+    private static final int FIRST = EpochMonths.of(2000, 0);
+    private static final int LAST = EpochMonths.of(2020, 11);
+
+    @Test
+    public void newMaskHasEveryMonthAvailable() {
+        MonthMask mask = new MonthMask(FIRST, LAST);
+        assertTrue(mask.isAvailable(FIRST));
+        assertTrue(mask.isAvailable(LAST));
+        assertFalse(mask.isAvailable(FIRST - 1));
+        assertFalse(mask.isAvailable(LAST + 1));
+    }
+
+    @Test
+    public void setRangeSpansWords() {
+        MonthMask mask = new MonthMask(FIRST, LAST);
+        mask.setRange(FIRST + 60, FIRST + 140, false);
+        assertTrue(mask.isAvailable(FIRST + 59));
+        for (int month = FIRST + 60; month <= FIRST + 140; month++) {
+            assertFalse(mask.isAvailable(month));
+        }
+        assertTrue(mask.isAvailable(FIRST + 141));
+    }
+
+    @Test
+    public void searchesSkipUnavailableMonths() {
+        MonthMask mask = new MonthMask(FIRST, LAST);
+        mask.setRange(FIRST + 10, FIRST + 200, false);
+        assertEquals(FIRST + 201, mask.nextAvailable(FIRST + 10));
+        assertEquals(FIRST + 9, mask.previousAvailable(FIRST + 200));
+        assertEquals(FIRST, mask.nextAvailable(FIRST - 50));
+        assertEquals(MonthMask.NO_MONTH, mask.nextAvailable(LAST + 1));
+        assertEquals(MonthMask.NO_MONTH, mask.previousAvailable(FIRST - 1));
+    }
+
+    @Test
+    public void findAvailableRespectsBoundsAndDirection() {
+        MonthMask mask = new MonthMask(FIRST, LAST);
+        mask.setRange(FIRST + 10, FIRST + 20, false);
+        assertEquals(FIRST + 21, mask.findAvailable(FIRST + 15, 1, FIRST, LAST));
+        assertEquals(FIRST + 9, mask.findAvailable(FIRST + 15, -1, FIRST, LAST));
+        // falls back to the other direction when the bound is reached
+        assertEquals(FIRST + 9, mask.findAvailable(FIRST + 15, 1, FIRST, FIRST + 20));
+        assertEquals(MonthMask.NO_MONTH, mask.findAvailable(FIRST + 15, 1, FIRST + 10,
+                FIRST + 20));
+    }
+
+    @Test
+    public void wordsRoundTrip() {
+        MonthMask mask = new MonthMask(FIRST, LAST);
+        mask.setRange(FIRST + 3, FIRST + 100, false);
+        MonthMask copy = new MonthMask(FIRST, LAST, mask.toWords());
+        assertEquals(mask, copy);
+        assertEquals(mask.hashCode(), copy.hashCode());
+        assertArrayEquals(mask.toWords(), copy.toWords());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wordsMustMatchRange() {
+        new MonthMask(FIRST, LAST, new long[1]);
+    }
+}
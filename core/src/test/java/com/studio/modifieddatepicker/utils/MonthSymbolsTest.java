@@ -0,0 +1,38 @@
+package com.studio.modifieddatepicker.utils;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MonthSymbolsTest {
+
+    @Test
+    public void symbolsFollowTheNumberOfMonthsOfTheCalendarSystem() {
+        MonthSymbols symbols = MonthSymbols.get(Locale.US, 13);
+        assertEquals(13, symbols.getNumberOfMonths());
+        assertEquals("Jan", symbols.getShortMonth(0));
+        assertEquals("13", symbols.getShortMonth(12));
+        assertEquals(13, symbols.getRange(0, 13).length);
+
+        assertEquals(12, MonthSymbols.get(Locale.US).getNumberOfMonths());
+    }
+
+    @Test
+    public void numbersOfMonthsOfALocaleAreCachedSeparately() {
+        MonthSymbols twelve = MonthSymbols.get(Locale.GERMANY, 12);
+        MonthSymbols thirteen = MonthSymbols.get(Locale.GERMANY, 13);
+        assertSame(twelve, MonthSymbols.get(Locale.GERMANY, 12));
+        assertSame(thirteen, MonthSymbols.get(Locale.GERMANY, 13));
+        assertSame(twelve.getRange(0, 12), MonthSymbols.get(Locale.GERMANY, 12).getRange(0, 12));
+    }
+
+    @Test
+    public void rangesAreShared() {
+        MonthSymbols symbols = MonthSymbols.get(Locale.US);
+        assertSame(symbols.getRange(2, 7), symbols.getRange(2, 7));
+        assertEquals("Mar", symbols.getRange(2, 7)[0]);
+    }
+}
@@ -0,0 +1,68 @@
+package com.studio.modifieddatepicker.utils;
+
+import org.junit.Test;
+
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MonthTableTest {
+
+    private static final MonthTable TABLE = MonthTable.GREGORIAN;
+
+    @Test
+    public void gregorianIndicesAreEpochMonths() {
+        for (int year = -5; year <= 5; year++) {
+            for (int month = 0; month < 12; month++) {
+                int index = TABLE.toIndex(year, month);
+                assertEquals(EpochMonths.of(year, month), index);
+                assertEquals(year, TABLE.getYear(index));
+                assertEquals(month, TABLE.getMonth(index));
+            }
+        }
+        assertEquals(-1, TABLE.getYear(-1));
+        assertEquals(11, TABLE.getMonth(-1));
+    }
+
+    @Test
+    public void gregorianCalendarsShareTable() {
+        assertSame(MonthTable.GREGORIAN, MonthTable.forCalendar(new GregorianCalendar()));
+        assertSame(MonthTable.GREGORIAN, MonthTable.forLocale(Locale.US));
+        assertEquals(12, TABLE.getMaxMonthsInYear());
+        assertEquals(12, TABLE.getMonthsInYear(2016));
+    }
+
+    @Test
+    public void withYearKeepsMonth() {
+        assertEquals(TABLE.toIndex(1999, 7), TABLE.withYear(TABLE.toIndex(2016, 7), 1999));
+    }
+
+    @Test
+    public void monthsBetweenCountsMonths() {
+        assertEquals(13, TABLE.monthsBetween(TABLE.toIndex(2016, 0), TABLE.toIndex(2017, 1)));
+        assertEquals(-13, TABLE.monthsBetween(TABLE.toIndex(2017, 1), TABLE.toIndex(2016, 0)));
+    }
+
+    @Test
+    public void leapMonthsAreCountedPerYear() {
+        // 2001 and 2004 have 13 months, 2002 and 2003 only 12
+        MonthTable table = MonthTable.forCalendar(new LeapMonthCalendar(2000));
+        assertEquals(13, table.getMaxMonthsInYear());
+        assertEquals(13, table.getMonthsInYear(2004));
+        assertEquals(12, table.getMonthsInYear(2002));
+        assertEquals(table.toIndex(2003, 0), table.normalize(table.toIndex(2002, 12), 1));
+        assertEquals(table.toIndex(2002, 11), table.normalize(table.toIndex(2002, 12), -1));
+        assertEquals(table.toIndex(2003, 1), table.rollOver(2002, 13));
+        assertEquals(table.toIndex(2002, 11), table.rollOver(2004, -13));
+        assertEquals(25, table.monthsBetween(table.toIndex(2003, 0), table.toIndex(2005, 0)));
+    }
+
+    @Test
+    public void normalizeKeepsExistingMonths() {
+        int index = TABLE.toIndex(2016, 11);
+        assertEquals(index, TABLE.normalize(index, 1));
+        assertEquals(index, TABLE.normalize(index, -1));
+    }
+}
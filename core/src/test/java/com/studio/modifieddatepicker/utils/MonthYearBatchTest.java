@@ -0,0 +1,84 @@
+package com.studio.modifieddatepicker.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MonthYearBatchTest {
+
+    private static final int MIN = EpochMonths.of(2000, 0);
+    private static final int MAX = EpochMonths.of(2020, 11);
+
+    @Test
+    public void clampMovesMonthsIntoTheRange() {
+        int[] months = {MIN - 1, MIN, EpochMonths.of(2010, 5), MAX, MAX + 1};
+        MonthYearBatch.clamp(months, MIN, MAX);
+        assertArrayEquals(new int[]{MIN, MIN, EpochMonths.of(2010, 5), MAX, MAX}, months);
+    }
+
+    @Test
+    public void monthsOutsideOfTheYearRollOverInClampAndValidate() {
+        int[] years = {2010, 2010, 2020};
+        int[] months = {12, -1, 12};
+        long[] validity = MonthYearBatch.validate(years, months, MIN, MAX, null);
+        assertTrue(MonthYearBatch.isValid(validity, 0));
+        assertTrue(MonthYearBatch.isValid(validity, 1));
+        assertFalse(MonthYearBatch.isValid(validity, 2));
+
+        MonthYearBatch.clamp(years, months, MIN, MAX);
+        assertArrayEquals(new int[]{2011, 2009, 2020}, years);
+        assertArrayEquals(new int[]{0, 11, 11}, months);
+    }
+
+    @Test
+    public void monthsRollOverAndSkipAsInATableWithLeapMonths() {
+        // 2001 and 2004 have 13 months, 2002 and 2003 only 12
+        MonthTable table = MonthTable.forCalendar(new LeapMonthCalendar(2000));
+        int min = table.toIndex(2000, 0);
+        int max = table.toIndex(2010, 11);
+
+        // the 13th index of 2002 is skipped, the picker selects the first month of 2003
+        int[] indices = {table.toIndex(2002, 12), table.toIndex(2002, 11), min - 1};
+        long[] validity = MonthYearBatch.validate(table, indices, min, max, null);
+        assertFalse(MonthYearBatch.isValid(validity, 0));
+        assertTrue(MonthYearBatch.isValid(validity, 1));
+        assertFalse(MonthYearBatch.isValid(validity, 2));
+        MonthYearBatch.clamp(table, indices, min, max);
+        assertArrayEquals(new int[]{table.toIndex(2003, 0), table.toIndex(2002, 11), min},
+                indices);
+
+        int[] years = {2004, 2002, 2002};
+        int[] months = {12, 12, -1};
+        validity = MonthYearBatch.validate(table, years, months, min, max, null);
+        assertTrue(MonthYearBatch.isValid(validity, 0));
+        assertTrue(MonthYearBatch.isValid(validity, 1));
+        assertTrue(MonthYearBatch.isValid(validity, 2));
+        MonthYearBatch.clamp(table, years, months, min, max);
+        assertArrayEquals(new int[]{2004, 2003, 2001}, years);
+        assertArrayEquals(new int[]{12, 0, 12}, months);
+    }
+
+    @Test
+    public void parallelResultsMatchSequentialResults() {
+        int size = 100000;
+        int[] months = new int[size];
+        for (int i = 0; i < size; i++) {
+            months[i] = MIN - 500 + i % 1000;
+        }
+        long[] sequential = MonthYearBatch.validate(months, MIN, MAX, null);
+        long[] parallel = MonthYearBatch.validate(ForkJoinPool.commonPool(), months, MIN, MAX,
+                null);
+        assertArrayEquals(sequential, parallel);
+
+        int[] clamped = months.clone();
+        MonthYearBatch.clamp(clamped, MIN, MAX);
+        MonthYearBatch.clamp(ForkJoinPool.commonPool(), months, MIN, MAX);
+        assertArrayEquals(clamped, months);
+        assertEquals(MIN, months[0]);
+    }
+}
@@ -0,0 +1,29 @@
+package com.studio.modifieddatepicker.utils;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class YearLabelsTest {
+
+    @Test
+    public void labelsAreFormattedOncePerYearAcrossPages() {
+        YearLabels labels = YearLabels.get(Locale.US, 1, 9999);
+        int lastOfPage = YearLabels.PAGE_SIZE;
+        assertEquals(String.valueOf(lastOfPage), labels.getLabel(lastOfPage));
+        assertEquals(String.valueOf(lastOfPage + 1), labels.getLabel(lastOfPage + 1));
+        assertSame(labels.getLabel(lastOfPage + 1), labels.getLabel(lastOfPage + 1));
+        assertEquals("9999", labels.getLabel(9999));
+    }
+
+    @Test
+    public void yearsPastTheCachedYearsAreStillFormatted() {
+        YearLabels labels = YearLabels.get(Locale.US, 0, Integer.MAX_VALUE);
+        assertEquals(10000, labels.size());
+        assertEquals(String.valueOf(Integer.MAX_VALUE), labels.getLabel(Integer.MAX_VALUE));
+        assertEquals("-1", labels.getLabel(-1));
+    }
+}
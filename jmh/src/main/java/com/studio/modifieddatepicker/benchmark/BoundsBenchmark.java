@@ -0,0 +1,38 @@
+package com.studio.modifieddatepicker.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving the min or the max month into the selected year and back, as a range picker does on
+ * every change of its start. Each move reconfigures the month column, moving the max month also
+ * clamps the selection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class BoundsBenchmark {
+
+    @Benchmark
+    public int setMinMonth(PickerState state) {
+        state.controller.setMinMonth(state.table.toIndex(state.year, 1));
+        state.controller.setMinMonth(state.minMonth);
+        return state.controller.getSelectedMonth();
+    }
+
+    @Benchmark
+    public int setMaxMonth(PickerState state) {
+        state.controller.setMaxMonth(state.table.toIndex(state.year, 1));
+        state.controller.setMaxMonth(state.maxMonth);
+        return state.controller.getSelectedMonth();
+    }
+}
@@ -0,0 +1,118 @@
+package com.studio.modifieddatepicker.benchmark;
+
+import com.studio.modifieddatepicker.utils.DateDisplayUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting a month and year with {@link DateDisplayUtils} in the default locale and time zone,
+ * with and without the table of preformatted labels, over every month of 1990 to 2029.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+    private static final int FIRST_YEAR = 1990;
+    private static final int YEARS = 40;
+
+    @Benchmark
+    public String formatMonthYear(FormatState state) {
+        int month = state.nextMonth();
+        return DateDisplayUtils.formatMonthYear(FIRST_YEAR + month / 12, month % 12);
+    }
+
+    @Benchmark
+    public int appendMonthYear(AppendState state) {
+        int month = state.nextMonth();
+        return DateDisplayUtils.appendMonthYear(state.buffer, 0, FIRST_YEAR + month / 12,
+                month % 12);
+    }
+
+    @State(Scope.Thread)
+    public static class FormatState {
+
+        @Param({Locales.EN_US, Locales.DE_DE, Locales.AR_EG, Locales.TH_TH, Locales.JA_JP})
+        public String locale;
+
+        @Param({"UTC", "America/Los_Angeles", "Asia/Kolkata"})
+        public String timeZone;
+
+        @Param({"false", "true"})
+        public boolean cachedYears;
+
+        private Locale mDefaultLocale;
+        private TimeZone mDefaultTimeZone;
+        private int mMonth;
+
+        @Setup
+        public void setUp() {
+            mDefaultLocale = Locale.getDefault();
+            mDefaultTimeZone = TimeZone.getDefault();
+            Locale.setDefault(Locale.forLanguageTag(locale));
+            TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
+            if (cachedYears) {
+                DateDisplayUtils.setCachedYearRange(FIRST_YEAR, FIRST_YEAR + YEARS - 1);
+            } else {
+                DateDisplayUtils.clearCachedYearRange();
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            DateDisplayUtils.clearCachedYearRange();
+            Locale.setDefault(mDefaultLocale);
+            TimeZone.setDefault(mDefaultTimeZone);
+        }
+
+        int nextMonth() {
+            mMonth = mMonth == YEARS * 12 - 1 ? 0 : mMonth + 1;
+            return mMonth;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AppendState {
+
+        @Param({Locales.EN_US, Locales.AR_EG, Locales.TH_TH})
+        public String locale;
+
+        final char[] buffer = new char[16];
+
+        private Locale mDefaultLocale;
+        private int mMonth;
+
+        @Setup
+        public void setUp() {
+            mDefaultLocale = Locale.getDefault();
+            Locale.setDefault(Locale.forLanguageTag(locale));
+        }
+
+        @TearDown
+        public void tearDown() {
+            Locale.setDefault(mDefaultLocale);
+        }
+
+        int nextMonth() {
+            mMonth = mMonth == YEARS * 12 - 1 ? 0 : mMonth + 1;
+            return mMonth;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.studio.modifieddatepicker.benchmark;
+
+/**
+ * The locales the benchmarks run with: Latin digits, a non-English month table, Arabic-Indic
+ * digits, Thai digits with the Buddhist calendar and the Japanese imperial calendar.
+ */
+final class Locales {
+
+    static final String EN_US = "en-US";
+    static final String DE_DE = "de-DE";
+    static final String AR_EG = "ar-EG";
+    static final String TH_TH = "th-TH-u-nu-thai";
+    static final String JA_JP = "ja-JP-u-ca-japanese";
+
+    private Locales() {
+        // hide constructor
+    }
+}
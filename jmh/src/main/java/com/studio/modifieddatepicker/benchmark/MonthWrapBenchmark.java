@@ -0,0 +1,44 @@
+package com.studio.modifieddatepicker.benchmark;
+
+import com.studio.modifieddatepicker.core.MonthYearWheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A month wrap of the month column, from the last month of a year to the first month of the
+ * next year and back, which moves the year column and reconfigures the month column on every
+ * change. Both changes are measured together so the state repeats.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class MonthWrapBenchmark {
+
+    @Benchmark
+    public int monthWrap(PickerState state) {
+        int lastMonthOfYear = state.table.getMonthsInYear(state.year) - 1;
+        state.controller.onValueChange(MonthYearWheel.COLUMN_MONTH, lastMonthOfYear, 0);
+        state.controller.onValueChange(MonthYearWheel.COLUMN_MONTH, 0, lastMonthOfYear);
+        return state.controller.getSelectedMonth();
+    }
+
+    @Benchmark
+    public int monthStep(PickerState state) {
+        int lastMonthOfYear = state.table.getMonthsInYear(state.year) - 1;
+        state.controller.onValueChange(MonthYearWheel.COLUMN_MONTH, lastMonthOfYear,
+                lastMonthOfYear - 1);
+        state.controller.onValueChange(MonthYearWheel.COLUMN_MONTH, lastMonthOfYear - 1,
+                lastMonthOfYear);
+        return state.controller.getSelectedMonth();
+    }
+}
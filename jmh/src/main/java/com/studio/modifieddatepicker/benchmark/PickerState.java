@@ -0,0 +1,47 @@
+package com.studio.modifieddatepicker.benchmark;
+
+import com.studio.modifieddatepicker.core.HeadlessMonthYearWheel;
+import com.studio.modifieddatepicker.core.MonthYearController;
+import com.studio.modifieddatepicker.utils.MonthTable;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+
+/**
+ * A controller driving a {@link HeadlessMonthYearWheel} in place of the spinners, selecting the
+ * last month of the middle year of a range of years around 2000.
+ */
+@State(Scope.Thread)
+public class PickerState {
+
+    @Param({Locales.EN_US, Locales.DE_DE, Locales.AR_EG, Locales.TH_TH, Locales.JA_JP})
+    public String locale;
+
+    // 10 years, the default 200 years and a paged range
+    @Param({"10", "200", "10000"})
+    public int rangeYears;
+
+    MonthYearController controller;
+    MonthTable table;
+    int minMonth;
+    int maxMonth;
+    int year;
+
+    @Setup
+    public void setUp() {
+        controller = new MonthYearController(new HeadlessMonthYearWheel(),
+                Locale.forLanguageTag(locale));
+        table = controller.getMonthTable();
+        int minYear = 2000 - rangeYears / 2;
+        int maxYear = minYear + rangeYears - 1;
+        minMonth = table.toIndex(minYear, 0);
+        maxMonth = table.toIndex(maxYear, table.getMonthsInYear(maxYear) - 1);
+        year = (minYear + maxYear) / 2;
+        controller.apply(table.toIndex(year, table.getMonthsInYear(year) - 1), minMonth,
+                maxMonth, null);
+    }
+}